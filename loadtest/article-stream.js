@@ -0,0 +1,43 @@
+// 게시물 변경 스트림(SSE) 연결 유지 테스트 (k6)
+//
+// VU 마다 /api/articles/stream 연결 하나를 HOLD 동안 열어 둡니다.
+// 연결이 열려 있는 동안 서버의 스레드 수와 메모리를 확인하여 연결당 비용을 계산합니다.
+//
+//   k6 run -e VUS=2000 -e HOLD=60s loadtest/article-stream.js
+//
+// 실행 전후로 다음 지표를 비교합니다. (연결 수로 나누면 연결당 비용)
+//   /actuator/metrics/tomcat.threads.busy, /actuator/metrics/jvm.threads.live   → 연결이 늘어도 스레드 수는 거의 그대로여야 합니다.
+//   /actuator/metrics/jvm.memory.used?tag=area:heap                            → 연결당 힙 사용량
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const EMAIL = __ENV.EMAIL || 'loadtest@example.com';
+const PASSWORD = __ENV.PASSWORD || 'loadtest';
+const HOLD = __ENV.HOLD || '60s';
+
+export const options = {
+    scenarios: {
+        stream: {
+            executor: 'per-vu-iterations',
+            vus: Number(__ENV.VUS || 1000),
+            iterations: 1,
+            maxDuration: '10m',
+        },
+    },
+};
+
+export function setup() {
+    http.post(`${BASE_URL}/user`, { email: EMAIL, password: PASSWORD }, { redirects: 0 });
+}
+
+export default function () {
+    http.post(`${BASE_URL}/login`, { username: EMAIL, password: PASSWORD }, { redirects: 0 });
+    // 스트림은 끝나지 않으므로 HOLD 시간이 지나면 클라이언트 타임아웃으로 연결을 닫습니다.
+    const res = http.get(`${BASE_URL}/api/articles/stream`, {
+        headers: { Accept: 'text/event-stream' },
+        timeout: HOLD,
+        tags: { name: 'stream' },
+    });
+    check(res, { 'stream opened': (r) => r.status === 200 || r.error_code === 1050 }); // 1050: 요청 타임아웃
+}
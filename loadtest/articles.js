@@ -0,0 +1,61 @@
+// 게시물 조회 부하 테스트 (k6)
+//
+// 플랫폼 스레드(기본) / 가상 스레드(virtual 프로필) 모드의 처리량과 p99 응답 시간을 비교할 때 사용합니다.
+//
+//   ./gradlew bootRun                                         # 플랫폼 스레드
+//   ./gradlew bootRun --args='--spring.profiles.active=virtual' # 가상 스레드
+//   k6 run -e VUS=200 -e DURATION=60s --summary-export=build/k6-platform.json loadtest/articles.js
+//
+// 두 실행의 http_reqs(rate)와 http_req_duration(p(99))를 비교합니다.
+// 결과 JSON 은 실행 환경에 따라 달라지므로 저장소에 커밋하지 않습니다. (같은 환경에서 연달아 실행한 결과끼리 비교)
+//
+// 비동기 조회 API(/api/async/articles)와 비교하려면 API 경로를 바꿔 실행합니다.
+//   k6 run -e API=/api/async/articles --summary-export=build/k6-async.json loadtest/articles.js
+// 실행 중 /actuator/metrics 의 tomcat.threads.busy, jvm.threads.live, executor.queued{name=articleRead}를 함께 확인합니다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const EMAIL = __ENV.EMAIL || 'loadtest@example.com';
+const PASSWORD = __ENV.PASSWORD || 'loadtest';
+const API = __ENV.API || '/api/articles';
+
+export const options = {
+    scenarios: {
+        articles: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 100),
+            duration: __ENV.DURATION || '60s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+// 부하 테스트용 계정을 만듭니다. (이미 있으면 무시)
+export function setup() {
+    http.post(`${BASE_URL}/user`, { email: EMAIL, password: PASSWORD }, { redirects: 0 });
+    login();
+    const first = http.get(`${BASE_URL}/api/articles?limit=1`);
+    check(first, { 'seed data exists': (r) => r.status === 200 && r.json().length > 0 });
+    return { id: first.json()[0].id };
+}
+
+// VU 마다 처음 한 번 로그인하면 세션 쿠키(JSESSIONID)가 VU 의 쿠키 저장소에 남습니다.
+function login() {
+    http.post(`${BASE_URL}/login`, { username: EMAIL, password: PASSWORD }, { redirects: 0 });
+}
+
+export default function (data) {
+    if (__ITER === 0) {
+        login();
+    }
+
+    const list = http.get(`${BASE_URL}${API}?limit=20`, { tags: { name: 'list' } });
+    check(list, { 'list 200': (r) => r.status === 200 });
+
+    const detail = http.get(`${BASE_URL}${API}/${data.id}`, { tags: { name: 'detail' } });
+    check(detail, { 'detail 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,22 @@
+package com.adam9e96.BlogStudy.benchmark;
+
+/**
+ * 벤치마크에서 사용하는 게시물 본문을 만듭니다.
+ */
+final class BenchmarkData {
+
+    private static final String SENTENCE = "스프링 부트로 만든 블로그의 벤치마크용 본문입니다. ";
+    private static final int CONTENT_LENGTH = 1000; // 글자 수
+
+    private BenchmarkData() {
+    }
+
+    static String content(int seed) {
+        StringBuilder content = new StringBuilder(CONTENT_LENGTH + SENTENCE.length());
+        content.append(seed).append(' ');
+        while (content.length() < CONTENT_LENGTH) {
+            content.append(SENTENCE);
+        }
+        return content.substring(0, CONTENT_LENGTH);
+    }
+}
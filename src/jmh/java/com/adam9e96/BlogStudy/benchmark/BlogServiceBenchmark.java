@@ -0,0 +1,126 @@
+package com.adam9e96.BlogStudy.benchmark;
+
+import com.adam9e96.BlogStudy.BlogStudyApplication;
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.domain.CompressedTextConverter;
+import com.adam9e96.BlogStudy.dto.ArticleViewResponse;
+import com.adam9e96.BlogStudy.repository.BlogRepository;
+import com.adam9e96.BlogStudy.service.BlogService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BlogService} 조회 경로를 실제 스프링 컨텍스트와 H2 데이터로 측정하는 벤치마크입니다.
+ * <p>
+ * {@code articles} 파라미터만큼 게시물을 미리 저장한 뒤 측정합니다.
+ * {@code findById} 는 서비스(캐시 포함)를, {@code findByIdFromRepository} 는 캐시 없이 DB 조회만 측정합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlogServiceBenchmark {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO article (title, content, excerpt, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, 0)";
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    @Param({"100", "10000"})
+    private int articles;
+
+    private ConfigurableApplicationContext context;
+    private BlogService blogService;
+    private BlogRepository blogRepository;
+    private long[] ids;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BlogStudyApplication.class)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + articles,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=warn",
+                        "logging.level.org.hibernate.SQL=warn",
+                        "logging.level.org.hibernate.type.descriptor.sql=warn")
+                .run();
+        blogService = context.getBean(BlogService.class);
+        blogRepository = context.getBean(BlogRepository.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        seed(jdbcTemplate);
+        ids = jdbcTemplate.queryForList("SELECT id FROM article ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ArticleViewResponse> findAll() {
+        return blogService.findAll();
+    }
+
+    @Benchmark
+    public ArticleViewResponse findById() {
+        return blogService.findById(nextId());
+    }
+
+    @Benchmark
+    public Article findByIdFromRepository() {
+        return blogRepository.findById(nextId()).orElseThrow();
+    }
+
+    // 같은 글만 반복 조회하지 않도록 저장된 id 를 순서대로 돌아가며 사용합니다.
+    private long nextId() {
+        long id = ids[next];
+        next = (next + 1) % ids.length;
+        return id;
+    }
+
+    // data.sql 로 들어간 글을 포함해 전체 게시물 수가 articles 가 되도록 채웁니다.
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT count(*) FROM article", Integer.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = (existing == null) ? 0 : existing; i < articles; i++) {
+            String content = BenchmarkData.content(i);
+            batch.add(new Object[]{"벤치마크 제목 " + i, CompressedTextConverter.compress(content),
+                    Article.excerptOf(content), now, now});
+            if (batch.size() == SEED_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        }
+    }
+}
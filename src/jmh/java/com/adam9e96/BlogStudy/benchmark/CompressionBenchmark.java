@@ -0,0 +1,97 @@
+package com.adam9e96.BlogStudy.benchmark;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.dto.ArticleResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 응답 압축(gzip)의 CPU 비용을 압축 수준별로 측정하는 벤치마크입니다.
+ * <p>
+ * 측정 대상은 게시물 목록 JSON 응답입니다.
+ * 압축 전후 크기는 보조 지표({@code rawBytes} / {@code gzipBytes})로 결과에 함께 기록되며,
+ * 압축률은 {@code gzipBytes / rawBytes} 로 구합니다.
+ * 톰캣의 응답 압축은 기본 수준(6)을 사용합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    @Param({"1", "6", "9"})
+    private int level;
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<ArticleResponse> responses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            responses.add(new ArticleResponse(Article.builder().title("제목 " + i).content(BenchmarkData.content(i)).build()));
+        }
+        payload = objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] gzip(Sizes sizes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 4);
+        try (GZIPOutputStream gzip = new LevelGZIPOutputStream(out, level)) {
+            gzip.write(payload);
+        }
+        byte[] compressed = out.toByteArray();
+        sizes.rawBytes += payload.length;
+        sizes.gzipBytes += compressed.length;
+        return compressed;
+    }
+
+    /**
+     * 반복(iteration)마다 압축 전후의 누적 바이트 수를 JMH 결과에 보조 지표로 남깁니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Sizes {
+        public long rawBytes;
+        public long gzipBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rawBytes = 0;
+            gzipBytes = 0;
+        }
+    }
+
+    private static final class LevelGZIPOutputStream extends GZIPOutputStream {
+        LevelGZIPOutputStream(ByteArrayOutputStream out, int level) throws IOException {
+            super(out);
+            def.setLevel(level);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.adam9e96.BlogStudy.benchmark;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.dto.ArticleResponse;
+import com.adam9e96.BlogStudy.dto.ArticleSummary;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API 응답 DTO 목록의 JSON 직렬화 시간을 측정하는 벤치마크입니다.
+ * <p>
+ * 스프링 부트와 같은 방식({@link Jackson2ObjectMapperBuilder})으로 만든 ObjectMapper 를 사용합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectWriter responseWriter;
+    private ObjectWriter summaryWriter;
+    private List<ArticleResponse> responses;
+    private List<ArticleSummary> summaries;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        responseWriter = objectMapper.writerFor(new TypeReference<List<ArticleResponse>>() {
+        });
+        summaryWriter = objectMapper.writerFor(new TypeReference<List<ArticleSummary>>() {
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        responses = new ArrayList<>(size);
+        summaries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String content = BenchmarkData.content(i);
+            responses.add(new ArticleResponse(Article.builder().title("제목 " + i).content(content).build()));
+            summaries.add(new ArticleSummary((long) i, "제목 " + i, content.substring(0, 200), now));
+        }
+    }
+
+    @Benchmark
+    public byte[] articleResponses() throws Exception {
+        return responseWriter.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] articleSummaries() throws Exception {
+        return summaryWriter.writeValueAsBytes(summaries);
+    }
+}
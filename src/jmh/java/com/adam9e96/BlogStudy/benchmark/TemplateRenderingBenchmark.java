@@ -0,0 +1,97 @@
+package com.adam9e96.BlogStudy.benchmark;
+
+import com.adam9e96.BlogStudy.dto.ArticleSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 목록 페이지(articleList.html) 렌더링 시간을 측정하는 벤치마크입니다.
+ * <p>
+ * 스프링 부트의 기본 설정과 같이 classpath:/templates/ 의 템플릿을 캐시하여 사용합니다.
+ * </p>
+ * <ul>
+ *   <li>{@code cardsFragment}: 조각 캐시 miss - 게시물 카드 조각(fragments/articles :: cards)을 렌더링합니다.</li>
+ *   <li>{@code articleList}: 조각 캐시 hit - 캐시된 카드 HTML 을 끼워 페이지만 요청마다 새 WebContext 로 렌더링합니다.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateRenderingBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private SpringTemplateEngine templateEngine;
+    private JakartaServletWebApplication application;
+    private List<ArticleSummary> articles;
+    private String cards;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateResolver.setCacheable(true);
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        application = JakartaServletWebApplication.buildApplication(new MockServletContext());
+
+        LocalDateTime now = LocalDateTime.now();
+        articles = new ArrayList<>(size);
+        for (int i = size; i > 0; i--) {
+            articles.add(new ArticleSummary((long) i, "제목 " + i, BenchmarkData.content(i).substring(0, 200), now));
+        }
+        cards = cardsFragment();
+    }
+
+    @Benchmark
+    public String cardsFragment() {
+        Context context = new Context(Locale.KOREAN);
+        context.setVariable("articles", articles);
+        context.setVariable("nextCursor", 1L);
+        context.setVariable("after", null);
+        context.setVariable("limit", size);
+        return templateEngine.process("fragments/articles", Set.of("cards"), context);
+    }
+
+    @Benchmark
+    public String articleList() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+        WebContext context = new WebContext(
+                application.buildExchange(request, new MockHttpServletResponse()), Locale.KOREAN);
+        context.setVariable("cards", cards);
+        return templateEngine.process("articleList", context);
+    }
+}
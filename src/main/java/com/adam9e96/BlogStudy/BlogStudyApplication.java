@@ -3,9 +3,11 @@ package com.adam9e96.BlogStudy;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing // created_at, updated_at 자동 업데이트
+@EnableScheduling // 조회수 일괄 반영(ViewCountService) 등 주기 작업
 public class BlogStudyApplication {
 
     public static void main(String[] args) {
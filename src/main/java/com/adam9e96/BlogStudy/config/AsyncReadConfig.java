@@ -0,0 +1,45 @@
+package com.adam9e96.BlogStudy.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h1>AsyncReadConfig</h1>
+ * 비동기 조회 API({@code /api/async/articles})가 DB 조회를 넘기는 스레드 풀 설정 클래스입니다.
+ * <p>
+ * - 요청 스레드는 조회를 이 풀에 넘기고 바로 반환되므로, 연결 수가 많아도 톰캣 스레드를 붙잡지 않습니다.<br>
+ * - JDBC 는 블로킹이므로 풀 크기는 커넥션 풀 크기 이하로 둡니다({@code blog.async.read.threads}).
+ * 더 많은 스레드는 커넥션을 기다리기만 합니다.<br>
+ * - 대기 큐가 가득 차면 대기하지 않고 바로 거절하며, 요청은 503 으로 응답합니다.<br>
+ * - 풀 사용량과 대기 건수는 {@code executor_*{name="articleRead"}} 지표로 확인합니다.
+ * </p>
+ */
+@Configuration
+public class AsyncReadConfig {
+
+    /**
+     * 게시물 조회 전용 스레드 풀
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService articleReadExecutor(
+            @Value("${blog.async.read.threads}") int threads,
+            @Value("${blog.async.read.queue-capacity}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("article-read-");
+        threadFactory.setDaemon(true);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "articleRead", Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+}
@@ -0,0 +1,48 @@
+package com.adam9e96.BlogStudy.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 성공/실패를 감사(audit) 로그로 남기는 리스너입니다.
+ * <p>
+ * {@code AuthenticationManager}가 발행하는 인증 이벤트를 받아, 인증 한 번에 한 줄만
+ * {@code key=value} 형식으로 기록합니다. 비밀번호(해시 포함)나 세션 id 같은 민감한 값은 남기지 않습니다.
+ * 로거 이름이 {@code audit.authentication} 이므로 {@code logging.level.audit.authentication} 으로 따로 조절할 수 있습니다.
+ * </p>
+ */
+@Slf4j(topic = "audit.authentication")
+@Component
+public class AuthenticationAuditListener {
+
+    @EventListener
+    public void onSuccess(AuthenticationSuccessEvent event) {
+        if (log.isInfoEnabled()) {
+            Authentication authentication = event.getAuthentication();
+            log.info("event=login.success principal={} authorities={} remoteAddress={}",
+                    authentication.getName(), authentication.getAuthorities(), remoteAddress(authentication));
+        }
+    }
+
+    @EventListener
+    public void onFailure(AbstractAuthenticationFailureEvent event) {
+        if (log.isWarnEnabled()) {
+            Authentication authentication = event.getAuthentication();
+            log.warn("event=login.failure principal={} reason={} remoteAddress={}",
+                    authentication.getName(), event.getException().getClass().getSimpleName(),
+                    remoteAddress(authentication));
+        }
+    }
+
+    private static String remoteAddress(Authentication authentication) {
+        if (authentication.getDetails() instanceof WebAuthenticationDetails details) {
+            return details.getRemoteAddress();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,78 @@
+package com.adam9e96.BlogStudy.config;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 동시에 실행되는 비밀번호 해시 계산 수를 제한하는 {@link PasswordEncoder}입니다.
+ * <p>
+ * BCrypt 는 의도적으로 느린(CPU 를 많이 쓰는) 연산이라, 회원가입/로그인이 몰리면 톰캣 요청 스레드가 모두
+ * 해시 계산에 묶여 다른 요청까지 처리하지 못하게 됩니다. 이 인코더는 해시 계산을 허가(permit) 수만큼만
+ * 동시에 실행(bulkhead)하고, 남은 허가가 없으면 기다리지 않고 바로 실패시킵니다.
+ * 따라서 해시 계산에 묶이는 요청 스레드는 최대 허가 수만큼이고, 나머지 요청 스레드는 곧바로 풀려납니다.
+ * </p>
+ * <p>
+ * 해시는 별도 스레드 풀이 아닌 요청 스레드에서 계산합니다. 다른 스레드에 맡기더라도 요청 스레드는 결과를
+ * 기다려야 하므로 풀려나지 않고, 제한 시간으로 기다림을 끊어도 BCrypt 계산은 인터럽트를 확인하지 않아
+ * 끝날 때까지 CPU 와 스레드를 계속 차지합니다. 그래서 시간 제한은 두지 않고, 계산을 시작하기 전에만 거절합니다.
+ * </p>
+ * <p>
+ * 실패는 {@link HashingBusyException}으로 알립니다. 로그인에서는 인증 실패로, 회원가입에서는 503 으로 처리됩니다.
+ * </p>
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Semaphore permits;
+
+    /**
+     * @param delegate      실제 해시를 계산할 인코더
+     * @param maxConcurrent 동시에 실행할 수 있는 최대 해시 계산 수
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int maxConcurrent) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return call(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return call(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 해시 접두사/강도만 확인하는 가벼운 연산이므로 허가 없이 바로 실행합니다.
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T call(Supplier<T> task) {
+        if (!permits.tryAcquire()) {
+            throw new HashingBusyException("비밀번호 처리 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        try {
+            return task.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 동시에 실행 중인 해시 계산이 한도에 도달하여 요청을 처리하지 못했음을 나타내는 예외입니다.
+     */
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public static class HashingBusyException extends AuthenticationServiceException {
+        public HashingBusyException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.adam9e96.BlogStudy.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * <h1>CacheConfig</h1>
+ * 애플리케이션 내부(in-process) 캐시 설정 클래스입니다.
+ * <p>
+ * - Caffeine(W-TinyLFU) 기반의 {@link CaffeineCacheManager}를 사용합니다.<br>
+ * - 캐시마다 최대 건수와 만료 시간(TTL)을 {@code blog.cache.*.spec} 프로퍼티로 따로 지정할 수 있습니다.<br>
+ * - 모든 캐시는 hit/miss 통계를 기록합니다(recordStats).
+ * </p>
+ * <p>
+ * 캐시 매니저를 트랜잭션 인식(transaction aware) 모드로 설정하여, 트랜잭션 안에서 발생한 put/evict 는
+ * 커밋이 끝난 뒤에 반영됩니다. 커밋 전에 evict 되어 다른 요청이 이전 값을 다시 캐시에 올리는 것을 막기 위함입니다.
+ * </p>
+ * <p>
+ * 캐시 어드바이스는 트랜잭션 어드바이스보다 먼저(바깥에서) 실행됩니다.
+ * 캐시에 적중하면 트랜잭션을 시작하지 않으므로 DB 커넥션도 가져오지 않습니다.
+ * </p>
+ */
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+@Configuration
+public class CacheConfig {
+
+    /**
+     * 게시물 상세(id → Article) 캐시 이름
+     */
+    public static final String ARTICLES = "articles";
+
+    /**
+     * 로그인 사용자(email → UserDetails) 캐시 이름
+     */
+    public static final String USERS = "users";
+
+    /**
+     * 렌더링된 게시물 페이지 조각(데이터 버전 → HTML) 캐시 이름
+     */
+    public static final String FRAGMENTS = "fragments";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${blog.cache.articles.spec}") String articlesSpec,
+                                     @Value("${blog.cache.users.spec}") String usersSpec,
+                                     @Value("${blog.cache.fragments.spec}") String fragmentsSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setTransactionAware(true);
+        cacheManager.registerCustomCache(ARTICLES, Caffeine.from(articlesSpec).recordStats().build());
+        cacheManager.registerCustomCache(USERS, Caffeine.from(usersSpec).recordStats().build());
+        cacheManager.registerCustomCache(FRAGMENTS, Caffeine.from(fragmentsSpec).recordStats().build());
+        return cacheManager;
+    }
+}
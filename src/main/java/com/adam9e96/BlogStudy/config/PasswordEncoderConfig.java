@@ -0,0 +1,78 @@
+package com.adam9e96.BlogStudy.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * <h1>PasswordEncoderConfig</h1>
+ * 패스워드 인코더 설정 클래스입니다.
+ * <p>
+ * - {@link DelegatingPasswordEncoder}: 새 해시는 {@code {bcrypt}} 접두사를 붙여 저장하고,
+ * 접두사가 없는 기존 해시도 BCrypt 로 검증합니다. 기존 해시나 현재보다 약한 강도의 해시는
+ * 로그인에 성공할 때 새 설정으로 다시 해시하여 저장합니다(UserDetailService#updatePassword).<br>
+ * - BCrypt 강도(work factor)는 시작 시 이 서버에서 해시 한 번이 목표 시간
+ * ({@code blog.security.password.target-millis}) 안에 끝나는 가장 높은 값으로 정합니다.
+ * {@code blog.security.password.strength} 를 지정하면 측정하지 않고 그 값을 사용합니다.<br>
+ * - 동시에 실행되는 해시 계산 수는 {@link BoundedPasswordEncoder}로 제한합니다.
+ * </p>
+ */
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String BCRYPT = "bcrypt";
+    private static final int MIN_STRENGTH = 10; // BCryptPasswordEncoder 기본값
+    private static final int MAX_STRENGTH = 16;
+
+    // 패스워드 인코더로 사용할 빈 등록
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            @Value("${blog.security.password.strength}") int strength,
+            @Value("${blog.security.password.target-millis}") long targetMillis,
+            @Value("${blog.security.password.max-concurrent}") int maxConcurrent) {
+        int bcryptStrength = (strength > 0) ? strength : calibrate(targetMillis);
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT, Map.of(BCRYPT, bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt); // 접두사 없는 기존 BCrypt 해시 검증용
+        // 해시는 CPU 만 쓰므로 코어 수보다 많이 동시에 실행해도 처리량은 늘지 않고 각 요청만 느려집니다.
+        int permits = (maxConcurrent > 0) ? maxConcurrent : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegating, permits);
+    }
+
+    /**
+     * 해시 한 번이 목표 시간 안에 끝나는 가장 높은 BCrypt 강도를 계산합니다.
+     * <p>
+     * 강도가 1 올라갈 때마다 계산량이 2배가 되므로, 최소 강도에서 한 번 측정한 시간으로 나머지를 계산합니다.
+     * JIT 컴파일 영향을 줄이기 위해 여러 번 측정하여 가장 빠른 값을 사용합니다.
+     * </p>
+     *
+     * @param targetMillis 해시 한 번에 허용할 목표 시간(ms)
+     * @return BCrypt 강도 ({@value #MIN_STRENGTH} ~ {@value #MAX_STRENGTH})
+     */
+    static int calibrate(long targetMillis) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(MIN_STRENGTH);
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long started = System.nanoTime();
+            encoder.encode("calibration-password");
+            bestNanos = Math.min(bestNanos, System.nanoTime() - started);
+        }
+
+        double baseMillis = Math.max(bestNanos / 1_000_000.0, 0.001);
+        int strength = MIN_STRENGTH;
+        while (strength < MAX_STRENGTH && baseMillis * (1L << (strength + 1 - MIN_STRENGTH)) <= targetMillis) {
+            strength++;
+        }
+        log.info("BCrypt strength calibrated to {} (strength {} took {} ms, target {} ms)",
+                strength, MIN_STRENGTH, String.format("%.1f", baseMillis), targetMillis);
+        return strength;
+    }
+}
@@ -0,0 +1,53 @@
+package com.adam9e96.BlogStudy.config;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 현재 요청(스레드)에서 실행된 SQL 문 수와 JDBC 실행 시간을 모으는 객체입니다.
+ * <p>
+ * {@link SqlStatisticsFilter}가 요청 시작 시 {@link #start()}, 끝날 때 {@link #stop()}을 호출하고,
+ * 그 사이 Hibernate 가 실행한 SQL 은 {@link SqlStatisticsSessionListener}가 {@link #record(long)}로 기록합니다.
+ * 수집을 시작하지 않은 스레드(애플리케이션 시작, 비동기 작업 등)에서는 아무것도 기록하지 않습니다.
+ * </p>
+ */
+public final class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private int count;
+    private long nanos;
+
+    private SqlStatistics() {
+    }
+
+    static SqlStatistics start() {
+        SqlStatistics statistics = new SqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 스레드에서 SQL 문 하나(또는 JDBC 배치 하나)가 실행되었음을 기록합니다.
+     *
+     * @param elapsedNanos 실행 시간(ns)
+     */
+    static void record(long elapsedNanos) {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.count++;
+            statistics.nanos += elapsedNanos;
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
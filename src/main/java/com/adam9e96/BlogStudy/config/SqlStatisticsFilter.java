@@ -0,0 +1,112 @@
+package com.adam9e96.BlogStudy.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 실행된 SQL 문 수와 JDBC 실행 시간을 집계하는 필터입니다.
+ * <p>
+ * - {@code blog.sql.statements} 지표(uri 태그)로 요청당 SQL 수를 기록합니다.<br>
+ * - {@code blog.sql.warn-threshold} 를 넘으면 경고 로그를 남깁니다. (N+1 쿼리 / 쿼리 폭증 감지)<br>
+ * - {@code blog.sql.header-enabled} 가 켜져 있으면 응답에 {@value #COUNT_HEADER} / {@value #TIME_HEADER}(ms) 헤더를 추가합니다.
+ * 응답 본문이 쓰이면서 커밋되기 직전에 헤더를 붙이므로, 그 이후 실행된 SQL 은 헤더 값에 포함되지 않습니다.
+ * </p>
+ * <p>
+ * 시큐리티 필터에서 실행되는 SQL(로그인 사용자 조회 등)까지 포함하도록 가장 먼저 실행됩니다.
+ * 비동기 요청(StreamingResponseBody 등)은 요청 스레드에서 실행된 SQL 만 집계합니다.
+ * </p>
+ */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Component
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-Sql-Count";
+    public static final String TIME_HEADER = "X-Sql-Time";
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+    private final boolean headerEnabled;
+
+    public SqlStatisticsFilter(MeterRegistry meterRegistry,
+                               @Value("${blog.sql.warn-threshold}") int warnThreshold,
+                               @Value("${blog.sql.header-enabled}") boolean headerEnabled) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+        this.headerEnabled = headerEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatistics statistics = SqlStatistics.start();
+        StatisticsHeaderWriter headerWriter = headerEnabled ? new StatisticsHeaderWriter(response, statistics) : null;
+        try {
+            filterChain.doFilter(request, (headerWriter != null) ? headerWriter : response);
+        } finally {
+            SqlStatistics.stop();
+            if (headerWriter != null) {
+                headerWriter.writeHeaders();
+            }
+            report(request, statistics);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = (pattern != null) ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("blog.sql.statements")
+                .description("요청당 실행된 SQL 문 수")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getCount());
+
+        if (statistics.getCount() > warnThreshold) {
+            log.warn("Too many SQL statements: {} {} executed {} statements in {} ms (threshold {})",
+                    request.getMethod(), request.getRequestURI(), statistics.getCount(), statistics.getMillis(),
+                    warnThreshold);
+        }
+    }
+
+    /**
+     * 응답이 커밋되기 직전(또는 요청 처리가 끝난 뒤)에 한 번만 집계 헤더를 추가하는 래퍼입니다.
+     */
+    private static final class StatisticsHeaderWriter extends OnCommittedResponseWrapper {
+
+        private final SqlStatistics statistics;
+        private boolean written;
+
+        StatisticsHeaderWriter(HttpServletResponse response, SqlStatistics statistics) {
+            super(response);
+            this.statistics = statistics;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeaders();
+        }
+
+        void writeHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            setHeader(COUNT_HEADER, String.valueOf(statistics.getCount()));
+            setHeader(TIME_HEADER, String.valueOf(statistics.getMillis()));
+        }
+    }
+}
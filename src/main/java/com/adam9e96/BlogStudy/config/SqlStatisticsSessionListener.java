@@ -0,0 +1,35 @@
+package com.adam9e96.BlogStudy.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션에서 실행되는 SQL 문마다 실행 시간을 재어 {@link SqlStatistics}에 기록하는 리스너입니다.
+ * <p>
+ * {@code hibernate.session.events.auto} 설정으로 세션마다 새로 만들어집니다.
+ * JdbcTemplate 으로 직접 실행하는 SQL(대량 등록 등)은 Hibernate 를 거치지 않으므로 집계되지 않습니다.
+ * </p>
+ */
+public class SqlStatisticsSessionListener implements SessionEventListener {
+
+    private long started;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        started = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatistics.record(System.nanoTime() - started);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        started = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatistics.record(System.nanoTime() - started);
+    }
+}
@@ -0,0 +1,59 @@
+package com.adam9e96.BlogStudy.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.WebContentInterceptor;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+
+/**
+ * <h1>WebConfig</h1>
+ * 스프링 MVC 설정 클래스입니다.
+ * <p>
+ * 게시물 API / 페이지 응답에 {@code Cache-Control: no-cache, private} 를 지정합니다.
+ * 스프링 시큐리티는 기본으로 {@code no-store} 를 붙여 브라우저가 응답을 저장하지 못하게 하는데,
+ * 그러면 ETag / Last-Modified 를 이용한 조건부 요청(304)이 일어나지 않습니다.
+ * 시큐리티는 이미 Cache-Control 이 있는 응답에는 헤더를 덮어쓰지 않으므로, 여기서 먼저 지정합니다.
+ * (로그인 사용자 전용 응답이므로 공유 캐시에는 저장되지 않도록 private 으로 지정)
+ * </p>
+ * <p>
+ * 자바스크립트 파일은 내용 해시가 붙은 URL({@code /js/article-<해시>.js})로 제공하고 1년 동안 캐시(immutable)하도록 합니다.
+ * 파일이 바뀌면 해시(URL)도 바뀌므로 브라우저는 재방문 시 다시 요청하지 않습니다.
+ * 템플릿의 {@code @{/js/...}} 링크는 {@link ResourceUrlEncodingFilter}가 해시가 붙은 URL 로 바꿉니다.
+ * 빌드 시 미리 압축해 둔 {@code .gz} 파일이 있으면 그대로 응답합니다.
+ * </p>
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        WebContentInterceptor revalidate = new WebContentInterceptor();
+        revalidate.addCacheMapping(CacheControl.noCache().cachePrivate(),
+                "/api/articles", "/api/articles/*", "/articles", "/articles/*");
+        registry.addInterceptor(revalidate);
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/js/**")
+                .addResourceLocations("classpath:/static/js/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver()) // Accept-Encoding 에 맞는 .gz(.br) 파일을 찾아 응답
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**")); // 내용 해시 URL
+    }
+
+    // 타임리프 @{...} 링크의 정적 자원 URL 을 해시가 붙은 URL 로 바꾸는 필터
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+}
@@ -3,26 +3,32 @@ package com.adam9e96.BlogStudy.config;
 import com.adam9e96.BlogStudy.repository.UserDetailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.DefaultAuthenticationEventPublisher;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.cache.SpringCacheBasedUserCache;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 import static org.springframework.boot.autoconfigure.security.servlet.PathRequest.toH2Console;
+import static org.springframework.boot.autoconfigure.security.servlet.PathRequest.toStaticResources;
 
 /**
  * <h1>WebSecurityConfig</h1>
  * 스프링 시큐리티 설정 클래스입니다.
  * - 스프링 시큐리티의 필터 체인 설정
- * - 인증 관리자 및 패스워드 인코더 설정
+ * - 인증 관리자 설정 (패스워드 인코더는 {@link PasswordEncoderConfig})
  */
 @Slf4j
 @Configuration
@@ -31,13 +37,18 @@ import static org.springframework.boot.autoconfigure.security.servlet.PathReques
 public class WebSecurityConfig {
 
     private final UserDetailService userDetailService;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PasswordEncoder passwordEncoder; // PasswordEncoderConfig 에서 등록
 
     // 스프링 시큐리티 기능 비활성화
+    // 정적 자원은 /static 이 아닌 /js/**, /css/** 등의 경로로 제공되므로 PathRequest 로 지정합니다.
+    // (시큐리티를 거치지 않아야 Cache-Control: no-store 대신 WebConfig 의 장기 캐시 헤더가 적용됩니다)
     @Bean
     public WebSecurityCustomizer configure() {
         return (web) -> web.ignoring()
                 .requestMatchers(toH2Console())
-                .requestMatchers(new AntPathRequestMatcher("/static/**"));
+                .requestMatchers(toStaticResources().atCommonLocations());
     }
 
     // 특정 HTTP 요청에 대한 웹 기반 보안 구성
@@ -57,28 +68,24 @@ public class WebSecurityConfig {
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         return http
-                .authenticationManager(authenticationManager(http, bCryptPasswordEncoder(), userDetailService))
+                .authenticationManager(authenticationManager(http, passwordEncoder, userDetailService))
                 .authorizeHttpRequests(auth -> auth // 인증, 인가 설정
                         .requestMatchers( // /login, /signup, /user 경로는 인증없이 접근가능
                                 new AntPathRequestMatcher("/login"),
                                 new AntPathRequestMatcher("/signup"),
                                 new AntPathRequestMatcher("/user")
                         ).permitAll()
+                        .requestMatchers( // 헬스 체크와 Prometheus 수집 경로는 인증없이 접근가능
+                                new AntPathRequestMatcher("/actuator/health/**"),
+                                new AntPathRequestMatcher("/actuator/prometheus")
+                        ).permitAll()
                         .anyRequest().authenticated())// 위에서 명시한 경로를 제외한 모든 요청은 인증이 필요하도록 설정(/articles/**도 포함)
                 // formLogin() 메소드를 호출할때 자동으로 UsernamePasswordAuthenticationFilter 가 등록됨)
                 .formLogin(formLogin -> formLogin // 폼 기반 로그인 설정
                         .loginPage("/login")
                         .defaultSuccessUrl("/articles")
-                        .successHandler((request, response, authentication) -> {  // 추가된 부분
-                            log.info("=== 로그인 성공 ===");
-                            log.info("인증 객체: {}", authentication);
-                            log.info("Principal: {}", authentication.getPrincipal());
-                            log.info("Credentials: {}", authentication.getCredentials()); // null 이 찍힘
-                            log.info("Authorities: {}", authentication.getAuthorities());
-                            log.info("Details: {}", authentication.getDetails());
-                            log.info("=================");
-                            response.sendRedirect("/articles");
-                        })
+                        // 로그인 성공/실패 기록은 AuthenticationAuditListener 에서 한 줄로 남김
+                        .successHandler((request, response, authentication) -> response.sendRedirect("/articles"))
                 )
                 .logout(logout -> logout // 로그아웃 설정
                         .logoutSuccessUrl("/login")
@@ -97,7 +104,7 @@ public class WebSecurityConfig {
      * - DB에서 사용자 정보를 조회
      * - UserDetails 객체로 변환하여 반환
      * <p>
-     * 2. 입력받은 비밀번호와 저장된 비밀번호를 BCryptPasswordEncoder 를 통해 검증
+     * 2. 입력받은 비밀번호와 저장된 비밀번호를 PasswordEncoder(BCrypt) 를 통해 검증
      * - 비밀번호 일치시 -> 인증 성공
      * - 비밀번호 불일치시 -> 인증 실패
      * <p>
@@ -107,23 +114,40 @@ public class WebSecurityConfig {
      * - 입력받은 비밀번호를 BCrypt 로 암호화
      * - 암호화된 결과와 DB에 저장된 암호화된 비밀번호를 비교
      * - 일치하면 로그인 성공, 불일치하면 실패
+     * <p>
+     * 사용자 정보는 {@link #userCache()}에 먼저 조회하고, 없을 때만 UserDetailService 로 DB를 조회합니다.
+     * (캐시된 비밀번호와 일치하지 않으면 DB에서 다시 조회하여 한 번 더 검증합니다)
+     * 저장된 해시가 현재 설정보다 약하면(접두사 없는 기존 해시 / 낮은 BCrypt 강도)
+     * 로그인 성공 시 UserDetailService#updatePassword 로 새 해시를 저장합니다.
+     * <p>
+     * 인증 결과는 이벤트로 발행되어 {@link AuthenticationAuditListener}가 감사 로그를 남깁니다.
      */
     @Bean
     public AuthenticationManager authenticationManager(HttpSecurity http,
-                                                       BCryptPasswordEncoder bCryptPasswordEncoder,
+                                                       PasswordEncoder passwordEncoder,
                                                        UserDetailService userDetailService) throws Exception {
 
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
 // DB에서 유저 정보를 가져오는 서비스 설정
         authProvider.setUserDetailsService(userDetailService); // 사용자 정보 가져오는 서비스 설정
-        authProvider.setPasswordEncoder(bCryptPasswordEncoder); // 패스워드 인코더 설정
-        return new ProviderManager(authProvider);
+        authProvider.setPasswordEncoder(passwordEncoder); // 패스워드 인코더 설정
+        authProvider.setUserDetailsPasswordService(userDetailService); // 로그인 시 비밀번호 재해시 저장
+        authProvider.setUserCache(userCache()); // 조회한 사용자 정보 캐시 설정
+
+        ProviderManager providerManager = new ProviderManager(authProvider);
+        providerManager.setAuthenticationEventPublisher(new DefaultAuthenticationEventPublisher(eventPublisher));
+        return providerManager;
     }
 
-    // 패스워드 인코더로 사용할 빈 등록
+    /**
+     * 인증에 사용하는 사용자 정보 캐시
+     * <p>
+     * 로그인이 몰려도 같은 사용자에 대해 매번 DB를 조회하지 않도록,
+     * {@link CacheConfig#USERS} 캐시(크기 / TTL 제한)에 UserDetails 를 보관합니다.
+     */
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public UserCache userCache() {
+        return new SpringCacheBasedUserCache(cacheManager.getCache(CacheConfig.USERS));
     }
 
 }
@@ -2,17 +2,47 @@ package com.adam9e96.BlogStudy.controller;
 
 import com.adam9e96.BlogStudy.domain.Article;
 import com.adam9e96.BlogStudy.dto.AddArticleRequest;
+import com.adam9e96.BlogStudy.dto.ArticleChangeBatch;
+import com.adam9e96.BlogStudy.dto.ArticleDeleteResult;
+import com.adam9e96.BlogStudy.dto.ArticleImportResult;
+import com.adam9e96.BlogStudy.dto.ArticlePage;
 import com.adam9e96.BlogStudy.dto.ArticleResponse;
+import com.adam9e96.BlogStudy.dto.ArticleSearchResult;
+import com.adam9e96.BlogStudy.dto.ArticleStamp;
+import com.adam9e96.BlogStudy.dto.ArticleSummary;
+import com.adam9e96.BlogStudy.dto.ArticleViewResponse;
 import com.adam9e96.BlogStudy.dto.UpdateArticleRequest;
+import com.adam9e96.BlogStudy.service.ArticleChangeLogService;
+import com.adam9e96.BlogStudy.service.ArticleContentService;
+import com.adam9e96.BlogStudy.service.ArticleExportService;
+import com.adam9e96.BlogStudy.service.ArticleImportService;
+import com.adam9e96.BlogStudy.service.ArticleSearchService;
+import com.adam9e96.BlogStudy.service.ArticleStreamService;
+import com.adam9e96.BlogStudy.service.BlogService;
 import com.adam9e96.BlogStudy.service.BlogServiceImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * <h1>Controller</h1>
@@ -26,9 +56,15 @@ import java.util.List;
  * <strong>주요 기능:</strong>
  * <ul>
  *   <li>새로운 게시물 추가</li>
+ *   <li>게시물 대량 등록</li>
+ *   <li>게시물 전체 내보내기(NDJSON)</li>
  *   <li>게시물 전체 조회</li>
  *   <li>게시물 id로 조회</li>
+ *   <li>게시물 본문 스트림 조회</li>
  *   <li>게시술 id로 삭제</li>
+ *   <li>게시물 제목/본문 검색</li>
+ *   <li>게시물 변경 기록 조회 (증분 동기화)</li>
+ *   <li>게시물 변경 스트림(server-sent events)</li>
  * </ul>
  * </p>
  */
@@ -38,6 +74,12 @@ import java.util.List;
 public class BlogApiController {
 
     private final BlogServiceImpl blogService;
+    private final ArticleSearchService articleSearchService;
+    private final ArticleImportService articleImportService;
+    private final ArticleExportService articleExportService;
+    private final ArticleContentService articleContentService;
+    private final ArticleStreamService articleStreamService;
+    private final ArticleChangeLogService articleChangeLogService;
 
     /**
      * <h2>블로그 글 추가</h2>
@@ -86,25 +128,201 @@ public class BlogApiController {
                 .body(savedArticle);
     }
 
+    /**
+     * <h2>블로그 글 대량 등록</h2>
+     * <p>
+     * /api/articles/import 로 POST 요청이 오면 요청 본문의 게시물들을 배치 단위로 저장합니다.
+     * 본문은 {@code application/json}(게시물 객체 배열) 또는 {@code application/x-ndjson}(한 줄에 게시물 하나)
+     * 형식이며, 전체를 메모리에 올리지 않고 스트리밍으로 읽습니다.
+     * </p>
+     * <p>
+     * 배치마다 커밋하므로 입력이 중간에 올바른 JSON 이 아니어도 그 앞까지의 게시물은 저장된 채로 남습니다.
+     * 이 경우 400 Bad Request 와 함께 그때까지 저장/건너뛴 건수와 {@code error} 를 반환합니다.
+     * </p>
+     *
+     * @param body 요청 본문 스트림
+     * @return 저장/건너뛴 건수와 배치 수, 소요 시간 (중단된 경우 사유 포함)
+     */
+    @PostMapping(value = "/api/articles/import",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ArticleImportResult> importArticles(InputStream body) throws IOException {
+        ArticleImportResult result = articleImportService.importArticles(body);
+        return ResponseEntity.status(result.isFailed() ? HttpStatus.BAD_REQUEST : HttpStatus.OK)
+                .body(result);
+    }
+
+    /**
+     * <h2>블로그 글 전체 내보내기</h2>
+     * <p>
+     * /api/articles/export 로 GET 요청이 오면 모든 게시물을 NDJSON(한 줄에 게시물 하나)으로 내려받습니다.
+     * 응답은 DB 커서에서 읽는 대로 바로 출력(StreamingResponseBody)되므로 전체 목록을 메모리에 올리지 않습니다.
+     * 클라이언트가 {@code Accept-Encoding: gzip} 을 보내면 gzip 으로 압축하여 전송합니다.
+     * </p>
+     *
+     * @param acceptEncoding 클라이언트가 지원하는 압축 방식
+     */
+    @GetMapping(value = "/api/articles/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportArticles(
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                articleExportService.exportTo(gzipOut);
+                gzipOut.finish();
+            } else {
+                articleExportService.exportTo(out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("articles.ndjson").build().toString())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     /**
      * <h2>블로그 글 전체 조회</h2>
      * <p>
-     * <url>http://www.localhost:8080/api/articles</url> 로 GET 요청이 오면 글 목록을 조회합니다.
+     * <url>http://www.localhost:8080/api/articles?after=&limit=</url> 로 GET 요청이 오면 글 목록을 조회합니다.
      * </p>
      * <p>
      * /api/articles 로 GET 요청이 오면 글 목록을 조회할 findAllArticles()를 실행합니다. <br>
-     * 내부족으로는 글 전체를 조회하는 findAll() 메서드를 호출한 다음 <br>
-     * 응답용 객체인 ArticleResponse 타입으로 파싱해 body 에 담아서 클라이언트에 전송합니다.(반환)
+     * 내부적으로는 커서({@code after}) 이후의 글을 최신순으로 {@code limit} 건 조회하는 findPage() 메서드를 호출한 다음 <br>
+     * 요약 객체인 ArticleSummary(id, 제목, 본문 요약, 작성 시간)를 body 에 담아서 클라이언트에 전송합니다.(반환)
+     * </p>
+     * <p>
+     * 다음 페이지가 있으면 {@code Link: <...?after=..>; rel="next"} 헤더로 다음 페이지 주소를 알려줍니다.
+     * </p>
+     * <p>
+     * 목록을 조회하기 전에 이 페이지에 보이는 게시물의 수, id 범위, 최종 수정 시간으로 ETag 를 계산하여, {@code If-None-Match} 가 일치하면
+     * 목록을 읽지 않고 304 Not Modified 를 반환합니다. 삭제는 최종 수정 시간을 바꾸지 않으므로
+     * 목록에는 Last-Modified 를 사용하지 않습니다.
+     * </p>
+     * <p>
+     * {@code sort=views} 이면 조회수가 많은 순(같으면 최신순)으로 상위 {@code limit} 건을 반환합니다.
+     * 조회수는 반영 주기({@code blog.views.flush-interval})마다 바뀌는 정렬 키라, 커서로 이어 읽으면 그 사이에
+     * 순위가 바뀐 글이 빠지거나 중복되므로 다음 페이지(after)와 조건부 GET 은 지원하지 않습니다.
+     * 최근 조회는 다음 반영 이후에 순위에 반영됩니다.
      * </p>
+     *
+     * @param after 이전 페이지의 마지막 게시물 id (첫 페이지는 생략, {@code sort=views} 와 함께 쓸 수 없음)
+     * @param limit 페이지 크기 (기본 20, 최대 {@link com.adam9e96.BlogStudy.service.BlogService#MAX_PAGE_SIZE})
+     * @param sort  정렬 ({@code views}: 조회수 순, 생략: 최신순)
      */
     @GetMapping("/api/articles")
-    public ResponseEntity<List<ArticleResponse>> findAllArticles() {
-        List<ArticleResponse> articles = blogService.findAll()
-                .stream()
-                .map(ArticleResponse::new)
-                .toList();
-        return ResponseEntity.ok()
-                .body(articles);
+    public ResponseEntity<List<ArticleSummary>> findAllArticles(
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "limit", defaultValue = "20") int limit,
+            @RequestParam(name = "sort", required = false) String sort,
+            WebRequest webRequest) {
+        if (BlogService.SORT_VIEWS.equals(sort)) {
+            if (after != null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회수 순 목록은 after 를 지원하지 않습니다.");
+            }
+            return ResponseEntity.ok()
+                    .body(blogService.findPopular(limit));
+        }
+        if (sort != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 정렬입니다: " + sort);
+        }
+
+        ArticleStamp stamp = blogService.findPageStamp(after, limit);
+        if (webRequest.checkNotModified(stamp.toETag("articles-" + after + "-" + limit))) {
+            return null; // 304 Not Modified
+        }
+
+        ArticlePage<ArticleSummary> page = blogService.findPage(after, limit);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", page.getNextCursor())
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page.getArticles());
+    }
+
+    /**
+     * <h2>블로그 글 변경 기록 조회</h2>
+     * <p>
+     * /api/articles/changes?since= 로 GET 요청이 오면 {@code since} 이후에 등록/수정/삭제된 게시물의 id 와 변경 종류를
+     * 기록 순서대로 반환합니다. 응답의 {@code next} 를 다음 요청의 {@code since} 로 보내면 이어서 받을 수 있습니다.
+     * </p>
+     * <ul>
+     *   <li>{@code since} 를 생략하면 변경 없이 현재 위치({@code next})만 반환합니다. 전체를 읽기 전에 받아 둡니다.</li>
+     *   <li>보관 기간이 지나 {@code since} 이후 기록이 삭제되었으면 410 Gone 을 반환합니다. 이때는 전체를 다시 읽어야 합니다.</li>
+     * </ul>
+     *
+     * @param since 이전 응답의 {@code next}
+     * @param limit 최대 건수 (기본 500, 최대 {@link ArticleChangeLogService#MAX_BATCH_SIZE})
+     */
+    @GetMapping("/api/articles/changes")
+    public ResponseEntity<ArticleChangeBatch> findArticleChanges(
+            @RequestParam(name = "since", required = false) Long since,
+            @RequestParam(name = "limit", defaultValue = "500") int limit) {
+        if (since == null) {
+            return ResponseEntity.ok(new ArticleChangeBatch(List.of(), articleChangeLogService.findHead(), false));
+        }
+        if (articleChangeLogService.isExpired(since)) {
+            throw new ResponseStatusException(HttpStatus.GONE, "since=" + since + " 이후의 변경 기록이 삭제되었습니다. 전체를 다시 조회하세요.");
+        }
+        return ResponseEntity.ok(articleChangeLogService.findChanges(since, limit));
+    }
+
+    /**
+     * <h2>블로그 글 변경 스트림</h2>
+     * <p>
+     * /api/articles/stream 으로 GET 요청이 오면 {@code text/event-stream} 연결을 열어 두고,
+     * 게시물이 등록/수정/삭제될 때마다(커밋 이후) {@code created} / {@code updated} / {@code deleted} 이벤트를 보냅니다.
+     * 목록을 주기적으로 다시 조회(polling)하지 않고 변경만 받을 수 있습니다.
+     * </p>
+     * <p>
+     * 다시 연결할 때 {@code Last-Event-ID} 헤더를 보내면 놓친 이벤트부터 이어서 받습니다.
+     * 놓친 이벤트가 서버에 남아 있지 않으면 {@code resync} 이벤트를 보내므로, 이때는 목록을 다시 조회해야 합니다.
+     * 구독자 수가 최대치에 도달하면 503 Service Unavailable 을 반환합니다.
+     * </p>
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 id (처음 연결이면 생략)
+     */
+    @GetMapping(value = "/api/articles/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamArticles(
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        try {
+            return articleStreamService.subscribe(lastEventId);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * <h2>블로그 글 검색</h2>
+     * <p>
+     * /api/articles/search?q= 로 GET 요청이 오면 제목과 본문에서 검색어를 찾아 관련도 순으로 반환합니다.
+     * 각 결과에는 검색어가 {@code <mark>} 로 강조된 본문 조각(snippet)이 포함됩니다.
+     * 해석할 수 없는 검색어(단어가 너무 많은 경우 등)는 400 Bad Request 를 반환합니다.
+     * </p>
+     *
+     * @param q     검색어
+     * @param limit 최대 결과 수 (기본 10, 최대 {@link ArticleSearchService#MAX_RESULTS})
+     */
+    @GetMapping("/api/articles/search")
+    public ResponseEntity<List<ArticleSearchResult>> searchArticles(
+            @RequestParam("q") String q,
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok()
+                    .body(articleSearchService.search(q, limit));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
     }
 
     /**
@@ -114,12 +332,64 @@ public class BlogApiController {
      * <p>
      * /api/articles/{id} 로 GET 요청이 오면 id에 해당되는 블로그 글을 반환합니다.
      * </p>
+     * <p>
+     * 글을 로드하기 전에 {@code version}, {@code updated_at} 만 조회하여 ETag / Last-Modified 를 계산하고,
+     * {@code If-None-Match} 또는 {@code If-Modified-Since} 가 일치하면 304 Not Modified 를 반환합니다.
+     * ETag 는 게시물 버전으로 만들기 때문에, 수정 요청(PUT)의 {@code If-Match} 로 그대로 보낼 수 있습니다.
+     * 해당 글이 없으면(변경 표식 확인 뒤 삭제된 경우 포함) 404 Not Found 를 반환합니다.
+     * </p>
      */
     @GetMapping("/api/articles/{id}")
-    public ResponseEntity<ArticleResponse> findArticle(@PathVariable("id") Long id) {
-        Article article = blogService.findById(id);
+    public ResponseEntity<ArticleResponse> findArticle(@PathVariable("id") Long id, WebRequest webRequest) {
+        ArticleStamp stamp = blogService.findStamp(id);
+        if (stamp.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (webRequest.checkNotModified(versionETag(id, stamp.getVersion()), stamp.getLastModifiedMillis())) {
+            return null; // 304 Not Modified
+        }
+
+        ArticleViewResponse article;
+        try {
+            article = blogService.findById(id);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok().body(new ArticleResponse(article.getTitle(), article.getContent()));
+    }
 
-        return ResponseEntity.ok().body(new ArticleResponse(article));
+    /**
+     * <h2>블로그 글 본문 조회 (스트림)</h2>
+     * <p>
+     * /api/articles/{id}/content 로 GET 요청이 오면 id에 해당되는 글의 본문만 {@code text/plain} 으로 반환합니다.
+     * 요청 스레드에서 압축된 본문만 읽어 DB 커넥션을 반납하고, 압축은 응답을 쓰면서(StreamingResponseBody) 풉니다.
+     * 풀린 본문 전체를 {@code String} 으로 만들지 않으며, 클라이언트가 천천히 읽어도 커넥션을 붙잡지 않습니다.
+     * </p>
+     * <p>
+     * 조건부 요청은 {@link #findArticle} 과 같은 버전 ETag / Last-Modified 로 처리합니다.
+     * 변경 표식을 확인한 뒤 본문을 읽기 전에 글이 삭제되면 404 Not Found 를 반환합니다.
+     * </p>
+     */
+    @GetMapping("/api/articles/{id}/content")
+    public ResponseEntity<StreamingResponseBody> findArticleContent(@PathVariable("id") Long id, WebRequest webRequest) {
+        ArticleStamp stamp = blogService.findStamp(id);
+        if (stamp.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (webRequest.checkNotModified(versionETag(id, stamp.getVersion()), stamp.getLastModifiedMillis())) {
+            return null; // 304 Not Modified
+        }
+
+        byte[] stored = articleContentService.findStoredContent(id).orElse(null);
+        if (stored == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        StreamingResponseBody body = out -> articleContentService.writeContent(stored, out);
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .body(body);
     }
 
     /**
@@ -128,25 +398,127 @@ public class BlogApiController {
      * </h2>
      * <p>
      * /api/articles/{id} 로 DELETE 요청이 오면 id에 해당되는 블로그 글을 삭제합니다.
+     * 해당 글이 없으면 404 Not Found 를 반환합니다.
      * </p>
      */
     @DeleteMapping("/api/articles/{id}")
     public ResponseEntity<Void> deleteArticle(@PathVariable("id") Long id) {
-        blogService.delete(id);
+        if (!blogService.delete(id)) {
+            return ResponseEntity.notFound().build();
+        }
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * <h2>
+     * 블로그 글 여러 개를 한 번에 삭제
+     * </h2>
+     * <p>
+     * {@code DELETE /api/articles?ids=1,2,3} 요청으로 여러 글을 DELETE 한 번으로 삭제합니다.
+     * (존재하는 글만 골라 삭제하고 변경 이벤트를 발행하기 위해 삭제 전에 id 만 한 번 조회합니다)
+     * 하나도 삭제되지 않았으면 404 Not Found 를 반환합니다.
+     * </p>
+     *
+     * @param ids 삭제할 글 id 목록 (최대 {@link BlogService#MAX_DELETE_SIZE}개)
+     */
+    @DeleteMapping("/api/articles")
+    public ResponseEntity<ArticleDeleteResult> deleteArticles(@RequestParam("ids") List<Long> ids) {
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.size() > BlogService.MAX_DELETE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "한 번에 삭제할 수 있는 게시물은 최대 " + BlogService.MAX_DELETE_SIZE + "개입니다.");
+        }
+
+        int deleted = blogService.deleteAll(distinctIds);
+        ArticleDeleteResult result = new ArticleDeleteResult(distinctIds.size(), deleted);
+        if (deleted == 0) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+        }
+        return ResponseEntity.ok().body(result);
+    }
+
     /**
      * <h2>
      * 블로그 글을 id로 수정하기
      * </h2>
+     * <p>
+     * 동시에 수정한 내용을 덮어쓰지 않도록, 수정 요청은 자신이 알고 있는 게시물 버전을 함께 보내야 합니다.
+     * <ul>
+     *   <li>{@code If-Match} 헤더: 조회 응답의 ETag. 버전이 다르면 412 Precondition Failed</li>
+     *   <li>요청 본문의 {@code version}: 버전이 다르면 409 Conflict</li>
+     *   <li>둘 다 없으면 428 Precondition Required</li>
+     *   <li>해당 글이 없으면 404 Not Found (버전을 확인하기 전에 먼저 판단합니다)</li>
+     * </ul>
+     * 수정에 성공하면 새 버전의 ETag 를 응답 헤더로 반환합니다.
+     * </p>
      */
     @PutMapping("/api/articles/{id}")
-    public ResponseEntity<Article> updateArticle(@PathVariable("id") Long id,
-                                                 @RequestBody UpdateArticleRequest request) {
-        Article updateArticle = blogService.update(id, request);
+    public ResponseEntity<ArticleResponse> updateArticle(
+            @PathVariable("id") Long id,
+            @RequestBody UpdateArticleRequest request,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = (ifMatch != null) ? parseIfMatch(id, ifMatch) : request.getVersion();
+        if (expectedVersion == null) {
+            if (ifMatch != null) {
+                throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "If-Match 가 게시물과 일치하지 않습니다.");
+            }
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_REQUIRED, "If-Match 헤더 또는 version 이 필요합니다.");
+        }
+
+        long version;
+        try {
+            version = blogService.update(id, expectedVersion, request);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        } catch (OptimisticLockingFailureException e) {
+            throw new ResponseStatusException(
+                    (ifMatch != null) ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT,
+                    "다른 사용자가 먼저 수정한 게시물입니다.", e);
+        }
 
         return ResponseEntity.ok()
-                .body(updateArticle);
+                .eTag(versionETag(id, version))
+                .body(new ArticleResponse(request.getTitle(), request.getContent()));
+    }
+
+    /**
+     * 게시물 버전으로 약한 ETag({@code W/"article-{id}-v{version}"})를 만듭니다.
+     */
+    private static String versionETag(Long id, long version) {
+        return "W/\"article-" + id + "-v" + version + "\"";
+    }
+
+    /**
+     * If-Match 헤더에서 이 게시물의 버전을 읽습니다.
+     * <p>
+     * 조회 응답의 ETag 가 약한(W/) ETag 이므로, RFC 의 강한 비교 대신 {@code W/} 접두사를 무시하고 비교합니다.
+     * {@code *} 는 게시물이 존재하면 현재 버전과 일치하는 것으로 봅니다.
+     * </p>
+     *
+     * @return 버전, 이 게시물의 ETag 가 없으면 {@code null}
+     */
+    private Long parseIfMatch(Long id, String ifMatch) {
+        String prefix = "article-" + id + "-v";
+        for (String tag : ifMatch.split(",")) {
+            String value = tag.trim();
+            if (value.equals("*")) {
+                ArticleStamp stamp = blogService.findStamp(id);
+                return stamp.isEmpty() ? null : stamp.getVersion();
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+                value = value.substring(1, value.length() - 1);
+            }
+            if (value.startsWith(prefix)) {
+                try {
+                    return Long.valueOf(value.substring(prefix.length()));
+                } catch (NumberFormatException ignored) {
+                    // 형식이 맞지 않는 ETag 는 일치하지 않는 것으로 봅니다.
+                }
+            }
+        }
+        return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+package com.adam9e96.BlogStudy.controller;
+
+import com.adam9e96.BlogStudy.dto.ArticlePage;
+import com.adam9e96.BlogStudy.dto.ArticleResponse;
+import com.adam9e96.BlogStudy.dto.ArticleSummary;
+import com.adam9e96.BlogStudy.dto.ArticleViewResponse;
+import com.adam9e96.BlogStudy.service.ArticleStreamService;
+import com.adam9e96.BlogStudy.service.BlogServiceImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * <h1>Controller</h1>
+ * {@code BlogAsyncApiController} 클래스는 게시물 조회 API의 비동기(non-blocking) 버전을 제공합니다.
+ * <p>
+ * {@link BlogApiController}의 조회 API는 DB 조회가 끝날 때까지 톰캣 요청 스레드를 붙잡습니다.
+ * 이 컨트롤러는 조회를 {@code articleReadExecutor}(크기가 정해진 JDBC 조회 전용 풀)에 넘기고
+ * {@link CompletableFuture}를 반환하므로, 요청 스레드는 바로 반환되고 응답은 조회가 끝난 뒤 비동기로 전송됩니다.
+ * 조회 풀의 대기 큐가 가득 차거나, 조회가 {@code blog.async.read.timeout} 안에 끝나지 않으면 503 Service Unavailable 을 반환합니다.
+ * (전체 내보내기를 위해 길게 잡은 {@code spring.mvc.async.request-timeout} 까지 기다리지 않습니다)
+ * </p>
+ *
+ * <p>
+ * <strong>주요 기능:</strong>
+ * <ul>
+ *   <li>게시물 목록 조회 (커서 기반, 다음 페이지는 {@code Link} 헤더)</li>
+ *   <li>게시물 id로 조회</li>
+ *   <li>게시물 변경 스트림 (server-sent events, {@code /api/articles/stream} 과 같은 스트림)</li>
+ * </ul>
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/async/articles")
+public class BlogAsyncApiController {
+
+    private final BlogServiceImpl blogService;
+    private final ArticleStreamService articleStreamService;
+    private final ExecutorService articleReadExecutor;
+    private final Duration readTimeout;
+
+    public BlogAsyncApiController(BlogServiceImpl blogService,
+                                  ArticleStreamService articleStreamService,
+                                  ExecutorService articleReadExecutor,
+                                  @Value("${blog.async.read.timeout}") Duration readTimeout) {
+        this.blogService = blogService;
+        this.articleStreamService = articleStreamService;
+        this.articleReadExecutor = articleReadExecutor;
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * <h2>블로그 글 목록 조회 (비동기)</h2>
+     * <p>
+     * {@code GET /api/articles} 와 같은 결과를 반환합니다. (조건부 요청(ETag)은 지원하지 않습니다)
+     * </p>
+     *
+     * @param after 이전 페이지의 마지막 게시물 id (첫 페이지는 생략)
+     * @param limit 페이지 크기 (기본 20, 최대 {@link com.adam9e96.BlogStudy.service.BlogService#MAX_PAGE_SIZE})
+     */
+    @GetMapping
+    public CompletableFuture<ResponseEntity<List<ArticleSummary>>> findAllArticles(
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        // 현재 요청 정보는 요청 스레드에서만 읽을 수 있으므로 미리 복사해 둡니다.
+        UriComponentsBuilder current = ServletUriComponentsBuilder.fromCurrentRequest();
+        return offload(() -> {
+            ArticlePage<ArticleSummary> page = blogService.findPage(after, limit);
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.hasNext()) {
+                String next = current.replaceQueryParam("after", page.getNextCursor()).toUriString();
+                response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+            }
+            return response.body(page.getArticles());
+        });
+    }
+
+    /**
+     * <h2>블로그 글을 id로 조회 (비동기)</h2>
+     * <p>
+     * 해당 글이 없으면 404 Not Found 를 반환합니다.
+     * </p>
+     */
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<ArticleResponse>> findArticle(@PathVariable("id") Long id) {
+        return offload(() -> {
+            try {
+                ArticleViewResponse article = blogService.findById(id);
+                return ResponseEntity.ok(new ArticleResponse(article.getTitle(), article.getContent()));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.notFound().build();
+            }
+        });
+    }
+
+    /**
+     * <h2>게시물 변경 스트림</h2>
+     * <p>
+     * {@link BlogApiController#streamArticles(String)} 와 같은 스트림입니다.
+     * </p>
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamArticles(
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        try {
+            return articleStreamService.subscribe(lastEventId);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 조회 작업을 조회 전용 스레드 풀에서 실행합니다.
+     * 대기 큐가 가득 차 거절되면 요청을 쌓아 두지 않고 503 으로 응답합니다.
+     * 제한 시간({@code readTimeout}) 안에 끝나지 않아도 503 으로 응답합니다.
+     * 이때 이미 실행 중인 조회는 중단되지 않고 끝까지 실행되며, 결과만 버려집니다.
+     */
+    private <T> CompletableFuture<T> offload(Supplier<T> task) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(task, articleReadExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "조회 요청이 많아 처리할 수 없습니다.", e);
+        }
+        return future.orTimeout(readTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    if (e instanceof TimeoutException) {
+                        throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "조회 시간이 초과되었습니다.", e);
+                    }
+                    throw e instanceof CompletionException completion ? completion : new CompletionException(e);
+                });
+    }
+}
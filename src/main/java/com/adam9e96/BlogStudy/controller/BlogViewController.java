@@ -1,40 +1,73 @@
 package com.adam9e96.BlogStudy.controller;
 
-import com.adam9e96.BlogStudy.domain.Article;
-import com.adam9e96.BlogStudy.dto.ArticleListViewResponse;
+import com.adam9e96.BlogStudy.dto.ArticleStamp;
 import com.adam9e96.BlogStudy.dto.ArticleViewResponse;
+import com.adam9e96.BlogStudy.service.ArticleFragmentService;
+import com.adam9e96.BlogStudy.service.BlogService;
 import com.adam9e96.BlogStudy.service.BlogServiceImpl;
+import com.adam9e96.BlogStudy.service.ViewCountService;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
-
-@Slf4j
 @RequiredArgsConstructor
 @Controller
 public class BlogViewController {
 
+    /**
+     * 렌더링된 페이지의 ETag 에 붙이는 값입니다.
+     * 애플리케이션이 다시 시작(배포)되면 바뀌므로, 템플릿이 변경된 뒤에도 이전 HTML 로 304 가 나가지 않습니다.
+     */
+    private static final String RENDER_VERSION = Long.toString(System.currentTimeMillis(), 36);
+
     private final BlogServiceImpl blogService;
+    private final ArticleFragmentService fragmentService;
+    private final ViewCountService viewCountService;
 
+    // after 커서 이후의 글을 limit 건씩 조회 (after 가 없으면 첫 페이지)
+    // 목록이 바뀌지 않았으면(If-None-Match 일치) 렌더링 없이 304 를 반환
+    // sort=views 면 조회수 순 상위 limit 건 (조회수는 반영 주기마다 바뀌므로 304 / 조각 캐시 없이 매번 렌더링)
     @GetMapping("/articles")
-    public String getArticles(Model model) {
-        List<ArticleListViewResponse> articles = blogService.findAll().stream()
-                .map(ArticleListViewResponse::new)
-                .toList();
-        log.info(articles.toString());
-        model.addAttribute("articles", articles); // 블로그 글 리스트 저장
+    public String getArticles(@RequestParam(name = "after", required = false) Long after,
+                              @RequestParam(name = "limit", defaultValue = "20") int limit,
+                              @RequestParam(name = "sort", required = false) String sort,
+                              WebRequest webRequest,
+                              Model model) {
+        if (BlogService.SORT_VIEWS.equals(sort)) {
+            model.addAttribute("cards", fragmentService.renderPopularCards(limit));
+            return "articleList";
+        }
+
+        ArticleStamp stamp = blogService.findPageStamp(after, limit);
+        if (webRequest.checkNotModified(stamp.toETag("page-" + RENDER_VERSION + "-" + after + "-" + limit))) {
+            return null; // 304 Not Modified
+        }
+
+        // 글 목록 카드는 데이터 버전별로 캐시된 HTML 을 사용 (변경이 없으면 조회/렌더링 없음)
+        model.addAttribute("cards", fragmentService.renderCards(stamp, after, limit));
         return "articleList"; // articleList.html 라는 뷰 조회
     }
 
+    // 글이 수정되지 않았으면(If-None-Match / If-Modified-Since 일치) 렌더링 없이 304 를 반환
+    // 조회수는 ETag 에 넣지 않음: 넣으면 조회수가 반영될 때마다(blog.views.flush-interval) ETag 가 바뀌어 인기 글일수록 304 가 나가지 않음
+    //   → 304 를 받은 브라우저는 캐시해 둔 페이지의 조회수(마지막으로 렌더링된 시점의 값)를 보여 줌
+    // 304 도 조회로 집계: 다시 방문하면 대부분 304 이므로, 빼면 조회수가 브라우저 캐시 상태에 따라 달라짐
     @GetMapping("/articles/{id}")
-    public String getArticle(@PathVariable("id") Long id, Model model) {
-        Article article = blogService.findById(id);
-        model.addAttribute("article", new ArticleViewResponse(article));
+    public String getArticle(@PathVariable("id") Long id, WebRequest webRequest, Model model) {
+        ArticleStamp stamp = blogService.findStamp(id);
+        if (!stamp.isEmpty()) {
+            viewCountService.increment(id); // 메모리에만 반영
+        }
+        if (!stamp.isEmpty() && webRequest.checkNotModified(
+                stamp.toETag("page-" + RENDER_VERSION + "-" + id), stamp.getLastModifiedMillis())) {
+            return null; // 304 Not Modified
+        }
+        model.addAttribute("articleHtml", fragmentService.renderArticle(id, stamp));
+        model.addAttribute("views", stamp.getViews() + viewCountService.getPending(id)); // 조각 캐시 밖에서 요청마다 표시
         return "article";
     }
 
@@ -44,8 +77,7 @@ public class BlogViewController {
         if (id == null) {// id 가 없으면 생성
             model.addAttribute("article", new ArticleViewResponse());
         } else { // id 가 없으면 수정
-            Article article = blogService.findById(id);
-            model.addAttribute("article", new ArticleViewResponse(article));
+            model.addAttribute("article", blogService.findById(id));
         }
         return "newArticle";
     }
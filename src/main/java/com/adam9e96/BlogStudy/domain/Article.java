@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -28,6 +29,12 @@ import java.time.LocalDateTime;
  * </p>
  *
  * <p>
+ * <strong>캐시:</strong>
+ *       Hibernate 2차 캐시 대상이 아닙니다. 조회는 모두 DTO 프로젝션이라 엔티티를 읽지 않으므로,
+ *       상세 조회 결과는 Spring 캐시({@code articles}, {@code BlogServiceImpl#findById})에 보관하고 변경 시 비웁니다.
+ * </p>
+ *
+ * <p>
  * <strong>주의 사항:</strong>
  *       기본 생성자는 PROTECTED 수준으로 제한되어 있어, 외부에서 직접 인스턴스를 생성할 수 없습니다.
  *       대신 {@link #builder()} 메서드를 사용하여 객체를 생성해야 합니다.
@@ -40,6 +47,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 기본 생성자를 PROTECTED 로 설정
 @Getter
 @EntityListeners(AuditingEntityListener.class) // 블로그 글 뷰 구현 (생성시간, 수정시간 관련)
+@Table(indexes = @Index(name = "idx_article_views", columnList = "views DESC, id DESC")) // 조회수 순 목록
 public class Article {
 
     /**
@@ -62,15 +70,38 @@ public class Article {
     @Column(name = "title", nullable = false)
     private String title; // 게시물의 제목
 
+    /**
+     * 목록에서 보여줄 본문 요약(excerpt)의 최대 길이입니다.
+     */
+    public static final int EXCERPT_LENGTH = 200;
+
     /**
      * 게시물의 내용입니다.
      * <p>
-     * 이 필드는 {@code null} 값을 가질 수 없으며, 데이터베이스의 {@code content} 컬럼에 매핑됩니다.
+     * 이 필드는 {@code null} 값을 가질 수 없으며, 데이터베이스의 {@code content} 컬럼(BLOB)에 매핑됩니다.
+     * 큰 본문은 {@link CompressedTextConverter} 로 LZ4 압축하여 저장합니다.
+     * </p>
+     * <p>
+     * 지연 로딩(LAZY) 대상이므로 엔티티를 조회해도 본문은 읽지 않고, {@link #getContent()} 를 처음 호출할 때 읽습니다.
+     * (빌드 시 Hibernate 바이트코드 향상이 필요합니다. build.gradle 의 {@code hibernate.enhancement})
+     * 본문이 필요한 조회는 프로젝션으로 함께 읽고, 제목만 쓰는 경로는 본문을 읽지 않습니다.
      * </p>
      */
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Convert(converter = CompressedTextConverter.class)
     @Column(name = "content", nullable = false)
     private String content; // 내용
 
+    /**
+     * 본문 앞부분 {@value #EXCERPT_LENGTH} 글자입니다.
+     * <p>
+     * 본문은 압축되어 있어 SQL 에서 잘라낼 수 없으므로, 저장/수정할 때 함께 저장하여 목록 조회가 본문을 읽지 않도록 합니다.
+     * </p>
+     */
+    @Column(name = "excerpt", nullable = false, length = EXCERPT_LENGTH)
+    private String excerpt; // 본문 요약
+
 
     /**
      * 게시물이 생성된 타임스탬프입니다.
@@ -88,6 +119,29 @@ public class Article {
     @Column(name = "updated_at")
     private LocalDateTime updateAt;
 
+    /**
+     * 낙관적 잠금(optimistic locking)에 사용하는 버전입니다.
+     * <p>
+     * 수정될 때마다 1씩 증가하며, 수정 요청이 알고 있는 버전과 다르면 다른 사용자가 먼저 수정한 것으로 보고 거부합니다.
+     * 새 게시물은 0부터 시작합니다.
+     * </p>
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * 게시물 조회수입니다.
+     * <p>
+     * {@code ViewCountService} 가 메모리에 모아 둔 조회수를 주기적으로 한 번에 더하는 컬럼이며,
+     * 엔티티를 통해서는 저장/수정하지 않습니다(insertable/updatable = false, 새 글은 DB 기본값 0).
+     * 캐시된 상세 조회 결과의 값은 오래된 값일 수 있으므로, 화면에는 {@code ArticleStamp} 로 조회한 값을 사용합니다.
+     * </p>
+     */
+    @ColumnDefault("0")
+    @Column(name = "views", nullable = false, insertable = false, updatable = false)
+    private long views;
+
     /**
      * 빌더 패턴을 사용하여 {@code Article} 인스턴스를 생성합니다.
      *
@@ -98,6 +152,7 @@ public class Article {
     public Article(String title, String content) {
         this.title = title;
         this.content = content;
+        this.excerpt = excerptOf(content);
     }
 
     /**
@@ -109,6 +164,21 @@ public class Article {
     public void update(String title, String content) {
         this.title = title;
         this.content = content;
+        this.excerpt = excerptOf(content);
+    }
+
+    /**
+     * 본문의 앞부분 {@value #EXCERPT_LENGTH} 글자를 반환합니다. 서로게이트 쌍(이모지 등)은 중간에서 자르지 않습니다.
+     *
+     * @param content 본문
+     * @return 본문 요약
+     */
+    public static String excerptOf(String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH) {
+            return content;
+        }
+        int end = Character.isHighSurrogate(content.charAt(EXCERPT_LENGTH - 1)) ? EXCERPT_LENGTH - 1 : EXCERPT_LENGTH;
+        return content.substring(0, end);
     }
 
 
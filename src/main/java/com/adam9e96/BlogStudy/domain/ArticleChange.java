@@ -0,0 +1,51 @@
+package com.adam9e96.BlogStudy.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시물 변경 기록(change log)을 나타내는 엔티티입니다.
+ *
+ * <p>
+ * 게시물이 등록/수정/삭제될 때마다 같은 트랜잭션에서 한 행씩 추가되며(append-only), 수정하지 않습니다.
+ * {@code seq} 는 기록 순서이며, 변경 조회 API({@code /api/articles/changes?since=})의 커서로 사용합니다.
+ * 행은 {@code ArticleChangeLogService} 가 JDBC 로 추가하고, 보관 기간이 지나면 삭제합니다.
+ * </p>
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "article_change", indexes = @Index(name = "idx_article_change_changed_at", columnList = "changed_at"))
+public class ArticleChange {
+
+    /**
+     * 변경 기록 순번입니다.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "seq", updatable = false)
+    private Long seq;
+
+    /**
+     * 변경된 게시물 ID 입니다.
+     */
+    @Column(name = "article_id", nullable = false, updatable = false)
+    private Long articleId;
+
+    /**
+     * 변경 종류입니다.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, updatable = false, length = 16)
+    private ArticleChangedEvent.Type type;
+
+    /**
+     * 변경 시간입니다.
+     */
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+}
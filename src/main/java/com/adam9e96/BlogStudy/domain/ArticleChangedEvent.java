@@ -0,0 +1,54 @@
+package com.adam9e96.BlogStudy.domain;
+
+import lombok.Getter;
+
+/**
+ * 게시물이 생성/수정/삭제되었음을 알리는 애플리케이션 이벤트입니다.
+ * <p>
+ * {@link com.adam9e96.BlogStudy.service.BlogServiceImpl}가 쓰기 작업을 하는 트랜잭션 안에서 발행합니다.
+ * 검색 인덱스처럼 커밋된 데이터만 반영해야 하는 구독자는
+ * {@code @TransactionalEventListener}(기본값 AFTER_COMMIT)로 받아야 합니다.
+ * </p>
+ */
+@Getter
+public class ArticleChangedEvent {
+
+    /**
+     * 변경 종류
+     */
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Long articleId;
+    private final String title;   // DELETED 이면 null
+    private final String content; // DELETED 이면 null
+
+    private ArticleChangedEvent(Type type, Long articleId, String title, String content) {
+        this.type = type;
+        this.articleId = articleId;
+        this.title = title;
+        this.content = content;
+    }
+
+    public static ArticleChangedEvent created(Article article) {
+        return created(article.getId(), article.getTitle(), article.getContent());
+    }
+
+    public static ArticleChangedEvent created(Long articleId, String title, String content) {
+        return new ArticleChangedEvent(Type.CREATED, articleId, title, content);
+    }
+
+    public static ArticleChangedEvent updated(Article article) {
+        return new ArticleChangedEvent(Type.UPDATED, article.getId(), article.getTitle(), article.getContent());
+    }
+
+    public static ArticleChangedEvent updated(Long articleId, String title, String content) {
+        return new ArticleChangedEvent(Type.UPDATED, articleId, title, content);
+    }
+
+    public static ArticleChangedEvent deleted(Long articleId) {
+        return new ArticleChangedEvent(Type.DELETED, articleId, null, null);
+    }
+}
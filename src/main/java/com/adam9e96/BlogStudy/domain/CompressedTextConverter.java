@@ -0,0 +1,110 @@
+package com.adam9e96.BlogStudy.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시물 본문({@code String})을 LZ4 로 압축한 바이트 배열로 저장하는 변환기입니다.
+ * <p>
+ * <strong>저장 형식:</strong>
+ * <ul>
+ *   <li>UTF-8 로 {@value #COMPRESSION_THRESHOLD} 바이트 미만인 본문은 압축하지 않고 UTF-8 바이트 그대로 저장합니다.
+ *       짧은 글은 압축해도 거의 줄지 않고 프레임 헤더만큼 오히려 커지기 때문입니다.</li>
+ *   <li>그 이상은 첫 바이트에 {@code 0xFF} 표식을 두고 뒤에 LZ4 프레임을 이어 붙입니다.
+ *       {@code 0xFF} 는 UTF-8 에 나타나지 않는 바이트이므로 두 형식을 첫 바이트로 구분할 수 있습니다.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * LZ4 프레임은 블록 단위로 압축되므로 {@link #openStream(InputStream)} 으로 전체를 메모리에 올리지 않고
+ * 읽는 대로 풀 수 있습니다.
+ * </p>
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    /**
+     * 이 크기(UTF-8 바이트) 이상인 본문만 압축합니다.
+     */
+    public static final int COMPRESSION_THRESHOLD = 512;
+
+    private static final int LZ4_MARKER = 0xFF;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return (attribute == null) ? null : compress(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return (dbData == null) ? null : decompress(dbData);
+    }
+
+    /**
+     * 본문을 저장 형식의 바이트 배열로 변환합니다.
+     *
+     * @param text 본문
+     * @return 저장할 바이트 배열
+     */
+    public static byte[] compress(String text) {
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length < COMPRESSION_THRESHOLD) {
+            return utf8;
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(utf8.length / 2 + 16);
+        buffer.write(LZ4_MARKER);
+        try (LZ4FrameOutputStream lz4 = new LZ4FrameOutputStream(buffer, LZ4FrameOutputStream.BLOCKSIZE.SIZE_64KB)) {
+            lz4.write(utf8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("본문 압축에 실패했습니다.", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 저장 형식의 바이트 배열을 본문으로 되돌립니다.
+     *
+     * @param data 저장된 바이트 배열
+     * @return 본문
+     */
+    public static String decompress(byte[] data) {
+        if (data.length == 0 || (data[0] & 0xFF) != LZ4_MARKER) {
+            return new String(data, StandardCharsets.UTF_8);
+        }
+        try (InputStream in = new LZ4FrameInputStream(
+                new ByteArrayInputStream(data, 1, data.length - 1))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("본문 압축 해제에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 저장된 본문을 읽는 스트림을 UTF-8 바이트 스트림으로 감쌉니다.
+     * 압축된 본문이면 읽는 대로 압축을 풀고, 아니면 그대로 읽습니다.
+     *
+     * @param stored 저장된 본문을 읽는 스트림 (예: {@code ResultSet#getBinaryStream})
+     * @return 본문의 UTF-8 바이트를 읽는 스트림
+     * @throws IOException 스트림을 읽는 중 오류가 발생한 경우
+     */
+    public static InputStream openStream(InputStream stored) throws IOException {
+        PushbackInputStream in = new PushbackInputStream(stored, 1);
+        int first = in.read();
+        if (first == LZ4_MARKER) {
+            return new LZ4FrameInputStream(in);
+        }
+        if (first != -1) {
+            in.unread(first);
+        }
+        return in;
+    }
+}
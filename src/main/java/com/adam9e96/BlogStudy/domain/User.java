@@ -5,6 +5,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,11 +17,14 @@ import java.util.List;
 /**
  * 사용자 정보를 담당하는 도메인 클래스
  * UserDetails 인터페이스를 구현하여 사용자 정보를 담당
+ * 조회한 엔티티는 Hibernate 2차 캐시(READ_WRITE)에 보관됩니다.
  */
 @Table(name = "users")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Cacheable // 2차 캐시 대상으로 지정
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class User implements UserDetails { // UserDetails 를 상속받아 인증 객체로 사용
 
     @Id
@@ -39,6 +44,16 @@ public class User implements UserDetails { // UserDetails 를 상속받아 인
         this.password = password;
     }
 
+    /**
+     * 비밀번호 해시를 교체합니다.
+     * 로그인 시 기존 해시를 현재 인코더 설정으로 다시 해시할 때 사용합니다.
+     *
+     * @param password 새로 인코딩된 비밀번호
+     */
+    public void updatePassword(String password) {
+        this.password = password;
+    }
+
     /**
      * 스프링 시큐리티는 사용자 권한을 문자열로 관리하지 않고 GrantedAuthority 객체로 관리합니다.
      * 현재는 단일 권한 "user"만 부여 하고있습니다.
@@ -0,0 +1,25 @@
+package com.adam9e96.BlogStudy.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시물 변경 조회({@code /api/articles/changes?since=}) 결과를 담는 객체입니다.
+ * <p>
+ * {@code next} 를 다음 조회의 {@code since} 로 그대로 전달하면 이어서 받을 수 있습니다.
+ * {@code hasMore} 가 {@code true} 이면 바로 다시 조회하고, {@code false} 이면 잠시 후 다시 조회합니다.
+ * </p>
+ */
+@Getter
+public class ArticleChangeBatch {
+    private final List<ArticleChangeResponse> changes;
+    private final long next;
+    private final boolean hasMore;
+
+    public ArticleChangeBatch(List<ArticleChangeResponse> changes, long next, boolean hasMore) {
+        this.changes = changes;
+        this.next = next;
+        this.hasMore = hasMore;
+    }
+}
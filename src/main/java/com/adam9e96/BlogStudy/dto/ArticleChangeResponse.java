@@ -0,0 +1,21 @@
+package com.adam9e96.BlogStudy.dto;
+
+import com.adam9e96.BlogStudy.domain.ArticleChange;
+import com.adam9e96.BlogStudy.domain.ArticleChangedEvent;
+import lombok.Getter;
+
+/**
+ * 게시물 변경 기록 한 건입니다. 변경된 게시물 id 와 종류만 담으며, 내용은 필요한 경우 따로 조회합니다.
+ */
+@Getter
+public class ArticleChangeResponse {
+    private final long seq;
+    private final Long id; // 게시물 ID
+    private final ArticleChangedEvent.Type type;
+
+    public ArticleChangeResponse(ArticleChange change) {
+        this.seq = change.getSeq();
+        this.id = change.getArticleId();
+        this.type = change.getType();
+    }
+}
@@ -0,0 +1,17 @@
+package com.adam9e96.BlogStudy.dto;
+
+import lombok.Getter;
+
+/**
+ * 게시물 일괄 삭제 결과를 담는 객체입니다.
+ */
+@Getter
+public class ArticleDeleteResult {
+    private final int requested; // 삭제를 요청한 게시물 수 (중복 id 제외)
+    private final int deleted;   // 실제로 삭제된 게시물 수
+
+    public ArticleDeleteResult(int requested, int deleted) {
+        this.requested = requested;
+        this.deleted = deleted;
+    }
+}
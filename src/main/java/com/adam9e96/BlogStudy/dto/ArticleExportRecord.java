@@ -0,0 +1,29 @@
+package com.adam9e96.BlogStudy.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시물 내보내기(NDJSON) 한 줄에 해당하는 객체입니다.
+ * <p>
+ * {@code title}, {@code content} 필드는 {@link AddArticleRequest}와 같으므로
+ * 내보낸 파일을 그대로 대량 등록(/api/articles/import)에 사용할 수 있습니다.
+ * </p>
+ */
+@Getter
+public class ArticleExportRecord {
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public ArticleExportRecord(Long id, String title, String content, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,39 @@
+package com.adam9e96.BlogStudy.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+/**
+ * 게시물 대량 등록 결과를 담는 객체입니다.
+ * <p>
+ * 입력이 중간에 올바른 JSON 이 아니게 되면 {@code error} 에 사유를 담고, 그 전까지 저장한 건수를 그대로 돌려줍니다.
+ * </p>
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ArticleImportResult {
+    private final int imported;      // 저장된 게시물 수
+    private final int skipped;       // 제목/내용이 비어 있어 건너뛴 게시물 수
+    private final int batches;       // 커밋된 배치(청크) 수
+    private final long elapsedMillis;
+    private final String error;      // 입력을 끝까지 읽지 못한 사유 (정상 완료 시 null)
+
+    public ArticleImportResult(int imported, int skipped, int batches, long elapsedMillis) {
+        this(imported, skipped, batches, elapsedMillis, null);
+    }
+
+    public ArticleImportResult(int imported, int skipped, int batches, long elapsedMillis, String error) {
+        this.imported = imported;
+        this.skipped = skipped;
+        this.batches = batches;
+        this.elapsedMillis = elapsedMillis;
+        this.error = error;
+    }
+
+    /**
+     * 입력을 끝까지 읽지 못하고 중단되었는지 여부를 반환합니다.
+     */
+    public boolean isFailed() {
+        return error != null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.adam9e96.BlogStudy.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 조회 결과를 담는 객체입니다.
+ * <p>
+ * {@code nextCursor}는 현재 페이지의 마지막 게시물 id 이며, 다음 페이지를 조회할 때
+ * {@code after} 파라미터로 그대로 전달하면 됩니다. 마지막 페이지라면 {@code null} 입니다.
+ * </p>
+ *
+ * @param <T> 페이지에 담기는 게시물 타입
+ */
+@Getter
+public class ArticlePage<T> {
+    private final List<T> articles;
+    private final Long nextCursor;
+
+    public ArticlePage(List<T> articles, Long nextCursor) {
+        this.articles = articles;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 다음 페이지가 존재하는지 여부를 반환합니다.
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
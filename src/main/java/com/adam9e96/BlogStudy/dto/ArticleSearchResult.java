@@ -0,0 +1,25 @@
+package com.adam9e96.BlogStudy.dto;
+
+import lombok.Getter;
+
+/**
+ * 게시물 검색 결과 한 건을 담는 객체입니다.
+ * <p>
+ * {@code snippet} 은 본문 중 검색어와 가장 관련 있는 부분으로, HTML 이스케이프된 텍스트에
+ * 검색어만 {@code <mark>} 태그로 감싼 HTML 조각입니다.
+ * </p>
+ */
+@Getter
+public class ArticleSearchResult {
+    private final Long id;
+    private final String title;
+    private final String snippet;
+    private final float score;
+
+    public ArticleSearchResult(Long id, String title, String snippet, float score) {
+        this.id = id;
+        this.title = title;
+        this.snippet = snippet;
+        this.score = score;
+    }
+}
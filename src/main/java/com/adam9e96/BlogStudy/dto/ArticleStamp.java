@@ -0,0 +1,97 @@
+package com.adam9e96.BlogStudy.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 요청(ETag / Last-Modified) 검사에 사용하는 게시물 변경 표식입니다.
+ * <p>
+ * 본문을 읽지 않고 {@code count(*)}, {@code max(updated_at)} 만 집계하여 만들기 때문에
+ * 응답 본문을 로드/렌더링하기 전에 304 Not Modified 여부를 판단할 수 있습니다.
+ * </p>
+ * <ul>
+ *   <li>글 추가/삭제 → {@code count} 가 바뀝니다.</li>
+ *   <li>글 수정 → {@code lastModified} 가 바뀝니다.</li>
+ * </ul>
+ * <p>
+ * 목록 페이지의 표식은 페이지에 보이는 게시물만 집계하며, 페이지 구성이 바뀐 것을 알 수 있도록
+ * 가장 작은 / 큰 id({@code firstId}, {@code lastId})도 함께 담습니다.
+ * 게시물 하나의 표식은 {@code version} 도 함께 담으며, 수정 요청의 If-Match 검사에 사용하는 ETag 를 만듭니다.
+ * 화면에 보여 줄 저장된 조회수({@code views})도 같은 쿼리로 함께 읽습니다.
+ * </p>
+ */
+@Getter
+public class ArticleStamp {
+    private final long count;
+    private final LocalDateTime lastModified;
+    private final Long version;
+    private final long views;
+    private final Long firstId;
+    private final Long lastId;
+
+    public ArticleStamp(Long count, LocalDateTime lastModified) {
+        this(count, lastModified, null, null);
+    }
+
+    public ArticleStamp(Long count, Long firstId, Long lastId, LocalDateTime lastModified) {
+        this.count = (count == null) ? 0 : count;
+        this.lastModified = lastModified;
+        this.version = null;
+        this.views = 0;
+        this.firstId = firstId;
+        this.lastId = lastId;
+    }
+
+    public ArticleStamp(Long count, LocalDateTime lastModified, Long version) {
+        this(count, lastModified, version, null);
+    }
+
+    public ArticleStamp(Long count, LocalDateTime lastModified, Long version, Long views) {
+        this.count = (count == null) ? 0 : count;
+        this.lastModified = lastModified;
+        this.version = version;
+        this.views = (views == null) ? 0 : views;
+        this.firstId = null;
+        this.lastId = null;
+    }
+
+    /**
+     * 집계 대상 게시물이 하나도 없는지 여부를 반환합니다.
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * 약한(weak) ETag 를 생성합니다.
+     *
+     * @param scope 같은 표식이라도 응답 형태(API, 페이지, 페이지 크기 등)가 다르면 구분하기 위한 접두사
+     * @return {@code W/"scope-count-nanos"} 형식의 ETag (목록 페이지 표식은 {@code W/"scope-count-firstId-lastId-nanos"})
+     */
+    public String toETag(String scope) {
+        String ids = (firstId == null) ? "" : firstId + "-" + lastId + "-";
+        return "W/\"" + scope + "-" + count + "-" + ids + toEpochNanos() + "\"";
+    }
+
+    /**
+     * Last-Modified 헤더에 사용할 epoch milliseconds 를 반환합니다.
+     *
+     * @return 수정 시간이 없으면 {@code -1} (Last-Modified 검사를 하지 않음)
+     */
+    public long getLastModifiedMillis() {
+        if (lastModified == null) {
+            return -1;
+        }
+        return lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private long toEpochNanos() {
+        if (lastModified == null) {
+            return 0;
+        }
+        var instant = lastModified.atZone(ZoneId.systemDefault()).toInstant();
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+}
@@ -0,0 +1,20 @@
+package com.adam9e96.BlogStudy.dto;
+
+import lombok.Getter;
+
+/**
+ * 게시물 변경 스트림({@code /api/articles/stream})으로 보내는 메시지입니다.
+ * 본문 전체 대신 목록과 같은 길이의 요약만 담으며, 삭제된 게시물은 {@code id} 만 담습니다.
+ */
+@Getter
+public class ArticleStreamMessage {
+    private final Long id;
+    private final String title;   // 삭제 이벤트이면 null
+    private final String excerpt; // 삭제 이벤트이면 null
+
+    public ArticleStreamMessage(Long id, String title, String excerpt) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+    }
+}
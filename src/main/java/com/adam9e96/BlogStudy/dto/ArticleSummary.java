@@ -0,0 +1,29 @@
+package com.adam9e96.BlogStudy.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시물 목록(카드)에 필요한 컬럼만 담는 요약 객체입니다.
+ * <p>
+ * JPQL 생성자 표현식({@code select new ...})으로 바로 생성되므로 엔티티가 영속성 컨텍스트에 올라가지 않고,
+ * 본문 전체 대신 SQL 에서 잘라낸 {@code excerpt} 만 읽습니다.
+ * </p>
+ *
+ * @see com.adam9e96.BlogStudy.repository.BlogRepository#findSummariesByIdLessThan
+ */
+@Getter
+public class ArticleSummary {
+    private final Long id;
+    private final String title;
+    private final String excerpt;
+    private final LocalDateTime createdAt;
+
+    public ArticleSummary(Long id, String title, String excerpt, LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.createdAt = createdAt;
+    }
+}
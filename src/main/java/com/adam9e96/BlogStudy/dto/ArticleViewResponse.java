@@ -15,11 +15,21 @@ public class ArticleViewResponse {
     private String title;
     private String content;
     private LocalDateTime createdAt;
+    private Long version;
 
     public ArticleViewResponse(Article article) {
         this.id = article.getId();
         this.title = article.getTitle();
         this.content = article.getContent();
         this.createdAt = article.getCreatedAt();
+        this.version = article.getVersion();
+    }
+
+    public ArticleViewResponse(Long id, String title, String content, LocalDateTime createdAt, Long version) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.version = version;
     }
 }
@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 
 /**
  * 블로그 글 수정 요청을 받을 DTO
+ * version 은 수정하려는 글의 버전(낙관적 잠금)이며, If-Match 헤더를 보내는 경우에는 생략할 수 있습니다.
  */
 @NoArgsConstructor
 @AllArgsConstructor
@@ -13,4 +14,5 @@ import lombok.NoArgsConstructor;
 public class UpdateArticleRequest {
     private String title;
     private String content;
+    private Long version;
 }
@@ -0,0 +1,67 @@
+package com.adam9e96.BlogStudy.repository;
+
+import com.adam9e96.BlogStudy.domain.ArticleChange;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * {@link ArticleChange}(게시물 변경 기록)를 조회하는 리포지토리 인터페이스입니다.
+ *
+ * @see ArticleChange
+ */
+public interface ArticleChangeRepository extends JpaRepository<ArticleChange, Long> {
+
+    /**
+     * 주어진 순번 이후의 변경 기록을 순번 오름차순으로 {@code limit} 건만 조회합니다. (기본 키 범위 조회)
+     *
+     * @param seq   커서(이전에 받은 마지막 순번)
+     * @param limit 조회할 최대 건수
+     * @return 변경 기록 목록
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<ArticleChange> findBySeqGreaterThanOrderBySeqAsc(Long seq, Limit limit);
+
+    /**
+     * 가장 최근 변경 기록의 순번을 조회합니다.
+     *
+     * @return 가장 큰 순번, 기록이 없으면 {@code null}
+     */
+    @Query("select max(c.seq) from ArticleChange c")
+    Long findMaxSeq();
+
+    /**
+     * 가장 오래된 변경 기록의 순번을 조회합니다.
+     *
+     * @return 가장 작은 순번, 기록이 없으면 {@code null}
+     */
+    @Query("select min(c.seq) from ArticleChange c")
+    Long findMinSeq();
+
+    /**
+     * 주어진 시간 이전의 변경 기록 중 가장 큰 순번을 조회합니다. 보관 기간이 지난 기록을 삭제할 때 사용합니다.
+     *
+     * @param changedAt 기준 시간
+     * @return 가장 큰 순번, 없으면 {@code null}
+     */
+    @Query("select max(c.seq) from ArticleChange c where c.changedAt < :changedAt")
+    Long findMaxSeqChangedBefore(@Param("changedAt") LocalDateTime changedAt);
+
+    /**
+     * 주어진 순번 이하의 변경 기록을 DELETE 한 번으로 삭제합니다.
+     *
+     * @param seq 삭제할 마지막 순번
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from ArticleChange c where c.seq <= :seq")
+    int deleteBySeqLessThanEqual(@Param("seq") Long seq);
+}
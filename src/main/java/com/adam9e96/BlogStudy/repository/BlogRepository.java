@@ -1,9 +1,28 @@
 package com.adam9e96.BlogStudy.repository;
 
 import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.dto.ArticleExportRecord;
+import com.adam9e96.BlogStudy.dto.ArticleStamp;
+import com.adam9e96.BlogStudy.dto.ArticleSummary;
+import com.adam9e96.BlogStudy.dto.ArticleViewResponse;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * {@link Article} 엔티티를 관리하는 리포지토리 인터페이스입니다.
  *
@@ -18,6 +37,209 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface BlogRepository extends JpaRepository<Article, Long> {
 
-    // 필요한 경우 커스텀 쿼리 메서드를 여기에 추가할 수 있습니다.
+    /**
+     * 목록에서 보여줄 본문 요약(excerpt)의 최대 길이입니다.
+     */
+    int EXCERPT_LENGTH = Article.EXCERPT_LENGTH;
+
+    /**
+     * 주어진 id 보다 작은 게시물의 요약을 id 내림차순(최신순)으로 {@code limit} 건만 조회합니다.
+     *
+     * <p>
+     * OFFSET 방식은 앞 페이지의 행을 모두 건너뛰어야 하므로 뒤 페이지로 갈수록 느려지지만,
+     * 기본 키 인덱스를 이용한 keyset 조회는 테이블 크기와 관계없이 항상 {@code limit} 건만 읽습니다.
+     * id 는 IDENTITY 로 증가하므로 id 순서는 {@code created_at} 순서와 같습니다.
+     * </p>
+     * <p>
+     * 본문 대신 저장해 둔 {@link #EXCERPT_LENGTH} 글자 요약 컬럼만 읽으며, 결과는 엔티티가 아닌
+     * {@link ArticleSummary} 로 바로 생성되므로 영속성 컨텍스트의 스냅샷/변경 감지 비용이 없습니다.
+     * </p>
+     *
+     * @param id    커서(이전 페이지의 마지막 게시물 id), 첫 페이지는 {@link Long#MAX_VALUE}
+     * @param limit 조회할 최대 건수
+     * @return 게시물 요약 목록
+     */
+    @Query("select new com.adam9e96.BlogStudy.dto.ArticleSummary("
+            + "a.id, a.title, a.excerpt, a.createdAt) "
+            + "from Article a where a.id < :id order by a.id desc")
+    List<ArticleSummary> findSummariesByIdLessThan(@Param("id") Long id, Limit limit);
+
+    /**
+     * 조회수가 많은 순(같으면 최신순)으로 게시물 요약을 {@code limit} 건만 조회합니다.
+     * <p>
+     * {@code (views DESC, id DESC)} 인덱스를 순서대로 읽으므로 정렬 작업 없이 {@code limit} 건만 읽습니다.
+     * </p>
+     *
+     * @param limit 조회할 최대 건수
+     * @return 게시물 요약 목록
+     */
+    @Query("select new com.adam9e96.BlogStudy.dto.ArticleSummary("
+            + "a.id, a.title, a.excerpt, a.createdAt) "
+            + "from Article a order by a.views desc, a.id desc")
+    List<ArticleSummary> findPopularSummaries(Limit limit);
+
+    /**
+     * 게시물 한 건을 본문과 함께 {@link ArticleViewResponse} 로 조회합니다.
+     * <p>
+     * 본문은 지연 로딩 대상이므로 엔티티로 조회하면 본문을 읽는 SELECT 가 한 번 더 실행됩니다.
+     * 본문이 필요한 상세 조회는 이 프로젝션으로 한 번에 읽습니다.
+     * </p>
+     *
+     * @param id 게시물 ID
+     * @return 게시물 (없으면 빈 값)
+     */
+    @Query("select new com.adam9e96.BlogStudy.dto.ArticleViewResponse("
+            + "a.id, a.title, a.content, a.createdAt, a.version) "
+            + "from Article a where a.id = :id")
+    Optional<ArticleViewResponse> findViewById(@Param("id") Long id);
+
+    /**
+     * 모든 게시물을 본문과 함께 id 오름차순으로 {@link ArticleViewResponse} 로 조회합니다.
+     * 엔티티로 조회하면 게시물마다 본문을 읽는 SELECT 가 추가로 실행되므로(N+1) 프로젝션으로 한 번에 읽습니다.
+     *
+     * @return 게시물 목록
+     */
+    @Query("select new com.adam9e96.BlogStudy.dto.ArticleViewResponse("
+            + "a.id, a.title, a.content, a.createdAt, a.version) "
+            + "from Article a order by a.id")
+    List<ArticleViewResponse> findAllViews();
+
+    /**
+     * 주어진 id 보다 큰 게시물을 본문과 함께 id 오름차순으로 {@code limit} 건만 조회합니다.
+     * 검색 색인 재생성처럼 테이블 전체를 일정 크기로 나누어 훑을 때 사용합니다.
+     * 엔티티 대신 프로젝션으로 읽으므로 게시물마다 본문을 따로 읽지 않습니다.
+     *
+     * @param id    커서(이전 묶음의 마지막 게시물 id), 처음에는 {@code 0}
+     * @param limit 조회할 최대 건수
+     * @return 게시물 목록
+     */
+    @Query("select new com.adam9e96.BlogStudy.dto.ArticleViewResponse("
+            + "a.id, a.title, a.content, a.createdAt, a.version) "
+            + "from Article a where a.id > :id order by a.id")
+    List<ArticleViewResponse> findViewsByIdGreaterThan(@Param("id") Long id, Limit limit);
+
+    /**
+     * 주어진 id 의 게시물들을 본문과 함께 {@link ArticleViewResponse} 로 조회합니다. (순서는 보장하지 않습니다)
+     * 검색 결과처럼 id 목록이 정해진 게시물을 한 번의 SELECT 로 읽을 때 사용합니다.
+     *
+     * @param ids 게시물 ID 목록
+     * @return 존재하는 게시물 목록
+     */
+    @Query("select new com.adam9e96.BlogStudy.dto.ArticleViewResponse("
+            + "a.id, a.title, a.content, a.createdAt, a.version) "
+            + "from Article a where a.id in :ids")
+    List<ArticleViewResponse> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 모든 게시물을 id 오름차순으로 스트림으로 조회합니다.
+     *
+     * <p>
+     * 결과를 한 번에 메모리에 올리지 않고 JDBC 커서로 {@code fetchSize} 건씩 가져옵니다.
+     * 엔티티가 아닌 {@link ArticleExportRecord} 로 바로 생성하므로 영속성 컨텍스트에 쌓이지 않고,
+     * 지연 로딩 대상인 본문도 같은 SELECT 에서 함께 읽습니다.
+     * 반드시 트랜잭션 안에서 호출하고, 사용 후 스트림을 닫아야 합니다(try-with-resources).
+     * </p>
+     *
+     * @return 게시물 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.adam9e96.BlogStudy.dto.ArticleExportRecord("
+            + "a.id, a.title, a.content, a.createdAt, a.updateAt) "
+            + "from Article a order by a.id")
+    Stream<ArticleExportRecord> streamAllByOrderByIdAsc();
+
+    /**
+     * 게시물 한 건의 변경 표식(버전, 저장된 조회수 포함)을 조회합니다. 기본 키로 한 행만 읽으며 본문은 읽지 않습니다.
+     *
+     * @param id 게시물 ID
+     * @return 변경 표식 (게시물이 없으면 {@code count == 0})
+     */
+    @Query("select new com.adam9e96.BlogStudy.dto.ArticleStamp(count(a), max(a.updateAt), max(a.version), max(a.views)) "
+            + "from Article a where a.id = :id")
+    ArticleStamp findStampById(@Param("id") Long id);
+
+    /**
+     * 목록 페이지({@link #findSummariesByIdLessThan})에 보이는 게시물들의 변경 표식을 조회합니다.
+     * <p>
+     * 커서 아래 테이블 전체를 집계하지 않고, 페이지와 같은 keyset 조회로 고른 {@code limit} 건만 집계하므로
+     * 목록 조회와 마찬가지로 테이블 크기와 관계없이 기본 키 인덱스에서 {@code limit} 건만 읽습니다.
+     * 페이지 안의 글이 삭제되면 다음 글이 밀려 들어와 가장 작은 id 가, 새 글이 추가되면 가장 큰 id 가 바뀝니다.
+     * </p>
+     * <p>
+     * 페이지의 행은 FROM 절의 서브쿼리(derived table)로 고릅니다. {@code IN (... LIMIT n)} 형태는 H2 에서는 되지만
+     * MySQL 은 IN 서브쿼리의 LIMIT 을 지원하지 않습니다.
+     * </p>
+     *
+     * @param id    커서(이전 페이지의 마지막 게시물 id), 첫 페이지는 {@link Long#MAX_VALUE}
+     * @param limit 집계할 건수 (다음 페이지 존재 여부도 반영하도록 페이지 크기 + 1)
+     * @return 변경 표식
+     */
+    @Query("select new com.adam9e96.BlogStudy.dto.ArticleStamp(count(p.id), min(p.id), max(p.id), max(p.updateAt)) "
+            + "from (select b.id as id, b.updateAt as updateAt from Article b "
+            + "where b.id < :id order by b.id desc limit :limit) p")
+    ArticleStamp findPageStamp(@Param("id") Long id, @Param("limit") int limit);
+
+    /**
+     * 버전이 일치할 때만 게시물의 제목, 내용, 본문 요약을 수정합니다.
+     * <p>
+     * 엔티티를 SELECT 한 뒤 변경 감지(dirty checking)로 UPDATE 하는 대신,
+     * {@code UPDATE ... WHERE id = ? AND version = ?} 한 번으로 버전 확인과 수정을 함께 처리합니다.
+     * 엔티티를 거치지 않으므로 수정 시간과 버전도 여기서 직접 갱신합니다.
+     * </p>
+     *
+     * @param id        게시물 ID
+     * @param version   수정 요청이 알고 있는 버전
+     * @param title     새로운 제목
+     * @param content   새로운 내용
+     * @param excerpt   새로운 본문 요약 ({@link Article#excerptOf(String)})
+     * @param updatedAt 수정 시간
+     * @return 수정된 행 수 (0 이면 게시물이 없거나 버전이 다름)
+     */
+    @Modifying
+    @Query("update Article a set a.title = :title, a.content = :content, a.excerpt = :excerpt, "
+            + "a.updateAt = :updatedAt, "
+            + "a.version = a.version + 1 where a.id = :id and a.version = :version")
+    int updateIfVersionMatches(@Param("id") Long id,
+                               @Param("version") long version,
+                               @Param("title") String title,
+                               @Param("content") String content,
+                               @Param("excerpt") String excerpt,
+                               @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 게시물 하나를 DELETE 한 번으로 삭제합니다.
+     * <p>
+     * {@code deleteById} 는 엔티티를 SELECT 하여 영속성 컨텍스트에 올린 뒤 삭제하므로 두 번 DB에 접근합니다.
+     * </p>
+     *
+     * @param id 게시물 ID
+     * @return 삭제된 행 수 (0 이면 해당 게시물이 없음)
+     */
+    @Modifying
+    @Query("delete from Article a where a.id = :id")
+    int deleteArticleById(@Param("id") Long id);
+
+    /**
+     * 주어진 id 중 실제로 존재하는 게시물의 id 를 조회하고, 트랜잭션이 끝날 때까지 해당 행을 잠급니다.
+     * <p>
+     * 일괄 삭제 전에 호출하여, 삭제 이벤트를 실제로 삭제할 게시물에 대해서만 발행하도록 합니다.
+     * 행을 잠그므로 조회와 삭제 사이에 다른 요청이 같은 게시물을 삭제할 수 없습니다.
+     * </p>
+     *
+     * @param ids 게시물 ID 목록
+     * @return 존재하는 게시물 ID 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a.id from Article a where a.id in :ids")
+    List<Long> findExistingIdsForUpdate(@Param("ids") Collection<Long> ids);
 
+    /**
+     * 여러 게시물을 DELETE 한 번으로 삭제합니다.
+     *
+     * @param ids 게시물 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from Article a where a.id in :ids")
+    int deleteArticlesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,21 +1,28 @@
 package com.adam9e96.BlogStudy.repository;
 
+import com.adam9e96.BlogStudy.config.CacheConfig;
+import com.adam9e96.BlogStudy.domain.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 스프링 시큐리티의 인증에 필요한 사용자 정보를 로드하는 서비스<br>
  * UserDetailsService 인터페이스를 구현하여 인증 시 사용자 정보를 제공
  * <p>
  * 로그인할때 사용됨(회원가입때는 사용안됨)
+ * <p>
+ * UserDetailsPasswordService 도 구현하여, 로그인에 성공한 사용자의 해시가 오래된 형식이면 새 해시로 교체합니다.
  */
 @Slf4j
 @RequiredArgsConstructor
 @Service
-public class UserDetailService implements UserDetailsService {
+public class UserDetailService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -35,28 +42,37 @@ public class UserDetailService implements UserDetailsService {
      * - 암호화된 비밀번호
      * - 권한 정보
      * - 계정 상태 정보(잠금, 만료 등)
+     * <p>
+     * 로그인 성공/실패 기록은 {@link com.adam9e96.BlogStudy.config.AuthenticationAuditListener}가 한 줄로 남기며,
+     * 인증 제공자가 {@code UserCache} 를 먼저 확인하므로 캐시에 있는 사용자는 이 메서드가 호출되지 않습니다.
      */
     @Override
     public UserDetails loadUserByUsername(String email) {
-        log.info("=== 사용자 인증 프로세스 시작 ===");
-        log.info("이메일로 사용자 정보 조회 중... email: {}", email);
+        log.debug("Loading user from database: {}", email);
 
-        UserDetails userDetails = userRepository.findByEmail(email)
-                .orElseThrow(() -> {
-                    log.error("사용자를 찾을 수 없음: {}", email);
-                    return new IllegalArgumentException(email + "에 해당하는 사용자가 없습니다.");
-                });
-        log.info("=== 인증 객체 상세 정보 ===");
-        log.info("Principal (Email): {}", userDetails.getUsername());
-        log.info("Credentials (Password): {}", userDetails.getPassword());
-        log.info("Authorities: {}", userDetails.getAuthorities());
-        log.info("Account Non Expired: {}", userDetails.isAccountNonExpired());
-        log.info("Account Non Locked: {}", userDetails.isAccountNonLocked());
-        log.info("Credentials Non Expired: {}", userDetails.isCredentialsNonExpired());
-        log.info("Enabled: {}", userDetails.isEnabled());
-        log.info(userDetails.toString());
-        log.info("=== 사용자 인증 프로세스 종료 ===");
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException(email + "에 해당하는 사용자가 없습니다."));
+    }
 
-        return userDetails;
+    /**
+     * 로그인에 성공한 사용자의 비밀번호 해시를 새 해시로 교체합니다.
+     * <p>
+     * DaoAuthenticationProvider 가 저장된 해시의 업그레이드가 필요하다고 판단했을 때
+     * (접두사 없는 기존 BCrypt 해시, 현재보다 낮은 BCrypt 강도) 방금 검증한 비밀번호로 만든 새 해시를 전달합니다.
+     * 캐시에 남은 이전 해시로 다시 업그레이드가 반복되지 않도록, 커밋 후 사용자 캐시에서 제거합니다.
+     *
+     * @param user        인증된 사용자
+     * @param newPassword 새로 인코딩된 비밀번호
+     * @return 비밀번호가 교체된 사용자 정보
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#user.username")
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User entity = userRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException(user.getUsername() + "에 해당하는 사용자가 없습니다."));
+        entity.updatePassword(newPassword);
+        log.debug("Password hash upgraded: {}", user.getUsername());
+        return entity;
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,10 @@
 package com.adam9e96.BlogStudy.repository;
 
 import com.adam9e96.BlogStudy.domain.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
@@ -24,8 +27,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * <p>이메일로 검색된 사용자가 존재하면 해당 {@link User}를 담은 {@link Optional}을 반환하고,
      * 존재하지 않을 경우 빈 {@code Optional}을 반환합니다.</p>
      *
+     * <p>조회 결과(id)는 쿼리 캐시에, 엔티티는 2차 캐시에 보관되므로 같은 이메일을 다시 조회하면 DB에 접근하지 않습니다.
+     * users 테이블이 변경되면 쿼리 캐시는 자동으로 무효화됩니다.</p>
+     *
      * @param email 조회할 사용자의 이메일
      * @return 해당 이메일로 조회된 {@link User}를 감싼 {@code Optional}, 없으면 비어있음
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email); // email을 통해 사용자 정보를 조회
 }
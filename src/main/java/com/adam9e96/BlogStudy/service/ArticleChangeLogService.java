@@ -0,0 +1,206 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.domain.ArticleChange;
+import com.adam9e96.BlogStudy.domain.ArticleChangedEvent;
+import com.adam9e96.BlogStudy.dto.ArticleChangeBatch;
+import com.adam9e96.BlogStudy.dto.ArticleChangeResponse;
+import com.adam9e96.BlogStudy.repository.ArticleChangeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시물 변경 기록(article_change 테이블)을 남기고 조회하는 서비스입니다.
+ * <p>
+ * 캐시, 검색 색인, 외부 복제본 등이 "마지막으로 확인한 이후 무엇이 바뀌었는지"만 조회하여 따라잡을 수 있도록 합니다.
+ * </p>
+ * <ul>
+ *   <li>{@link ArticleChangedEvent}를 커밋 이후가 아닌 같은 트랜잭션 안에서 기록합니다.
+ *       게시물 변경이 롤백되면 기록도 함께 롤백되고, 커밋된 변경은 반드시 기록됩니다.</li>
+ *   <li>트랜잭션에서 발행된 변경은 모아 두었다가 커밋 직전({@code beforeCommit})에 JDBC 배치 insert 한 번으로 씁니다.
+ *       대량 등록처럼 한 트랜잭션에서 변경이 수백 건 발행되어도 insert 를 건마다 실행하지 않습니다.
+ *       기록 시각({@code changed_at})도 이벤트 발행 시각이 아닌 insert 시각이므로, 순번과 기록 시각 사이의 차이는
+ *       insert 부터 커밋까지로 짧습니다.</li>
+ *   <li>조회는 순번(seq) 커서로 기본 키 범위만 읽으며, 한 번에 같은 게시물의 변경이 여러 건이면 마지막 것만 반환합니다.</li>
+ *   <li>순번은 insert 시점에 정해지므로 먼저 번호를 받은 트랜잭션이 나중에 커밋될 수 있습니다.
+ *       조회 결과에 빈 번호가 있으면, 그 뒤의 기록이 {@code blog.changes.commit-grace} 보다 오래되기 전까지는
+ *       빈 번호 앞까지만 반환하여 늦게 커밋되는 기록을 건너뛰지 않습니다. (롤백으로 생긴 빈 번호는 그 후에 넘어갑니다)</li>
+ *   <li>{@code blog.changes.retention} 이 지난 기록은 주기적으로 삭제하며, 삭제된 범위의 커서로 조회하면
+ *       {@link #isExpired(long)} 가 {@code true} 가 됩니다. 이때 구독자는 전체를 다시 읽어야 합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class ArticleChangeLogService {
+
+    /**
+     * 한 번에 조회할 수 있는 최대 변경 기록 수입니다.
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO article_change (article_id, change_type, changed_at) VALUES (?, ?, ?)";
+
+    private final ArticleChangeRepository articleChangeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final Duration commitGrace;
+    private volatile long purgedThrough; // 이 순번 이하의 기록은 삭제됨
+
+    public ArticleChangeLogService(ArticleChangeRepository articleChangeRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${blog.changes.retention}") Duration retention,
+                                   @Value("${blog.changes.commit-grace}") Duration commitGrace) {
+        this.articleChangeRepository = articleChangeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.commitGrace = commitGrace;
+    }
+
+    /**
+     * 이미 삭제된 기록이 있으면(파일 DB 로 재시작한 경우) 가장 오래된 기록 앞까지를 삭제된 범위로 봅니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        Long minSeq = articleChangeRepository.findMinSeq();
+        purgedThrough = (minSeq == null) ? 0 : minSeq - 1;
+    }
+
+    /**
+     * 게시물 변경을 현재 트랜잭션의 기록 목록에 추가합니다. 목록은 커밋 직전에 한 번에 저장됩니다.
+     * 변경을 발행한 트랜잭션 안에서 실행되며, 트랜잭션 밖에서 발행되면 예외가 발생합니다.
+     *
+     * @param event 게시물 변경 이벤트
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ArticleChangedEvent event) {
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.events.add(event);
+    }
+
+    /**
+     * 가장 최근 변경 기록의 순번을 반환합니다.
+     * 전체를 다시 읽기 전에 조회해 두면, 다 읽은 뒤 이 순번부터 변경을 이어 받을 수 있습니다.
+     *
+     * @return 가장 큰 순번, 기록이 없으면 삭제된 범위의 끝(처음에는 {@code 0})
+     */
+    public long findHead() {
+        Long maxSeq = articleChangeRepository.findMaxSeq();
+        return (maxSeq == null) ? purgedThrough : maxSeq;
+    }
+
+    /**
+     * 주어진 순번 이후의 기록이 보관 기간이 지나 삭제되었는지 여부를 반환합니다.
+     *
+     * @param since 이전에 받은 마지막 순번
+     * @return 삭제되어 이어 받을 수 없으면 {@code true}
+     */
+    public boolean isExpired(long since) {
+        return since < purgedThrough;
+    }
+
+    /**
+     * 주어진 순번 이후의 변경을 조회합니다.
+     *
+     * @param since 이전에 받은 마지막 순번 (처음이면 {@link #findHead()} 로 받은 값)
+     * @param limit 최대 건수 (1 ~ {@link #MAX_BATCH_SIZE} 범위로 보정됩니다)
+     * @return 변경 목록과 다음 커서
+     */
+    @Transactional(readOnly = true)
+    public ArticleChangeBatch findChanges(long since, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_BATCH_SIZE);
+        List<ArticleChange> rows = articleChangeRepository.findBySeqGreaterThanOrderBySeqAsc(since, Limit.of(size + 1));
+
+        LocalDateTime settled = LocalDateTime.now().minus(commitGrace);
+        Map<Long, ArticleChangeResponse> latest = new LinkedHashMap<>(); // 게시물별 마지막 변경 (마지막 변경 순서 유지)
+        long next = since;
+        int read = 0;
+        for (ArticleChange row : rows) {
+            if (read == size) {
+                break;
+            }
+            if (row.getSeq() != next + 1 && row.getChangedAt().isAfter(settled)) {
+                break; // 앞 번호가 아직 커밋되지 않았을 수 있음
+            }
+            latest.remove(row.getArticleId());
+            latest.put(row.getArticleId(), new ArticleChangeResponse(row));
+            next = row.getSeq();
+            read++;
+        }
+        boolean hasMore = read == size && rows.size() > size;
+        return new ArticleChangeBatch(new ArrayList<>(latest.values()), next, hasMore);
+    }
+
+    /**
+     * 한 트랜잭션에서 발행된 변경 기록입니다. 커밋 직전에 배치 insert 로 저장하고, 트랜잭션이 끝나면 바인딩을 해제합니다.
+     * <p>
+     * 기록 시각은 insert 할 때 정합니다. 발행 시각으로 기록하면 오래 걸린 트랜잭션의 기록이 커밋되자마자
+     * {@code blog.changes.commit-grace} 보다 오래된 것으로 보여, {@link #findChanges} 가 그 앞의 빈 번호를 기다리지 않고 넘어갑니다.
+     * </p>
+     */
+    private final class PendingChanges implements TransactionSynchronization {
+        private final List<ArticleChangedEvent> events = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            Timestamp changedAt = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> rows = new ArrayList<>(events.size());
+            for (ArticleChangedEvent event : events) {
+                rows.add(new Object[]{event.getArticleId(), event.getType().name(), changedAt});
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ArticleChangeLogService.this);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 변경 기록을 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${blog.changes.purge-interval}")
+    public void purge() {
+        Long purged = transactionTemplate.execute(status -> {
+            Long maxSeq = articleChangeRepository.findMaxSeqChangedBefore(LocalDateTime.now().minus(retention));
+            if (maxSeq == null) {
+                return null;
+            }
+            int deleted = articleChangeRepository.deleteBySeqLessThanEqual(maxSeq);
+            log.info("Purged {} article changes up to seq {}", deleted, maxSeq);
+            return maxSeq;
+        });
+        if (purged != null) {
+            purgedThrough = Math.max(purgedThrough, purged);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.domain.CompressedTextConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+
+/**
+ * 게시물 본문을 스트림으로 출력하는 서비스입니다.
+ * <p>
+ * 본문은 두 단계로 출력합니다.
+ * <ol>
+ *     <li>{@link #findStoredContent(Long)} : 트랜잭션 안에서 저장된(압축된) 바이트만 읽고 커넥션을 바로 반납합니다.</li>
+ *     <li>{@link #writeContent(byte[], OutputStream)} : 트랜잭션 밖에서 압축을 풀며 출력 스트림에 씁니다.</li>
+ * </ol>
+ * 클라이언트가 응답을 천천히 읽어도 커넥션 풀의 커넥션을 붙잡고 있지 않습니다.
+ * 힙에는 압축된 본문과 LZ4 블록(최대 64KB) 하나만 올라가고, 풀린 본문 전체를 {@code String} 으로 만들지 않습니다.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Service
+public class ArticleContentService {
+
+    private static final String SELECT_SQL = "SELECT content FROM article WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시물 본문을 저장된 형식(압축된 바이트) 그대로 읽습니다.
+     *
+     * @param id 게시물 ID
+     * @return 저장된 본문, 게시물이 없으면 빈 {@code Optional}
+     */
+    @Transactional(readOnly = true)
+    public Optional<byte[]> findStoredContent(Long id) {
+        return Optional.ofNullable(jdbcTemplate.query(SELECT_SQL, rs -> rs.next() ? rs.getBytes(1) : null, id));
+    }
+
+    /**
+     * 저장된 본문의 압축을 풀어 UTF-8 로 출력합니다. 출력 스트림은 닫지 않습니다(호출한 쪽에서 관리).
+     * <p>
+     * DB 를 읽지 않으므로 트랜잭션 밖(응답 스트리밍 스레드)에서 호출합니다.
+     * </p>
+     *
+     * @param stored {@link #findStoredContent(Long)} 로 읽은 본문
+     * @param out    출력 스트림
+     * @throws IOException 출력 중 오류가 발생한 경우 (클라이언트 연결 종료 등)
+     */
+    public void writeContent(byte[] stored, OutputStream out) throws IOException {
+        try (InputStream content = CompressedTextConverter.openStream(new ByteArrayInputStream(stored))) {
+            content.transferTo(out);
+        }
+    }
+}
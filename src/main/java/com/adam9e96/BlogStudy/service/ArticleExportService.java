@@ -0,0 +1,69 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.dto.ArticleExportRecord;
+import com.adam9e96.BlogStudy.repository.BlogRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 게시물 전체 내보내기(export)를 담당하는 서비스입니다.
+ * <p>
+ * 전체 게시물을 {@code List} 로 모으지 않고, 읽기 전용 트랜잭션 안에서 JDBC 커서를 앞으로만 읽으며
+ * 한 건씩 NDJSON(한 줄에 JSON 객체 하나)으로 출력합니다. 엔티티가 아닌 {@link ArticleExportRecord} 프로젝션으로 읽어
+ * 영속성 컨텍스트에 쌓이지 않으므로 테이블 크기와 관계없이 힙 사용량이 일정합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ArticleExportService {
+
+    private final BlogRepository blogRepository;
+    private final ObjectWriter writer;
+
+    public ArticleExportService(BlogRepository blogRepository, ObjectMapper objectMapper) {
+        this.blogRepository = blogRepository;
+        // 한 줄마다 flush 하지 않고, 출력 버퍼가 찰 때만 내보냅니다.
+        this.writer = objectMapper.writerFor(ArticleExportRecord.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 모든 게시물을 id 순서로 NDJSON 형식으로 출력합니다.
+     * <p>
+     * 출력 스트림은 닫지 않습니다(호출한 쪽에서 관리).
+     * </p>
+     *
+     * @param out 출력 스트림
+     * @return 출력한 게시물 수
+     * @throws IOException 출력 중 오류가 발생한 경우 (클라이언트 연결 종료 등)
+     */
+    @Transactional(readOnly = true)
+    public long exportTo(OutputStream out) throws IOException {
+        long started = System.currentTimeMillis();
+        long count = 0;
+        try (Stream<ArticleExportRecord> articles = blogRepository.streamAllByOrderByIdAsc();
+             JsonGenerator generator = writer.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<ArticleExportRecord> iterator = articles.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        log.info("Exported {} articles in {} ms", count, System.currentTimeMillis() - started);
+        return count;
+    }
+}
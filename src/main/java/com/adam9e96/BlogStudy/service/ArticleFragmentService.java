@@ -0,0 +1,116 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.config.CacheConfig;
+import com.adam9e96.BlogStudy.domain.ArticleChangedEvent;
+import com.adam9e96.BlogStudy.dto.ArticlePage;
+import com.adam9e96.BlogStudy.dto.ArticleStamp;
+import com.adam9e96.BlogStudy.dto.ArticleSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 게시물 페이지의 본문 조각(fragment)을 렌더링하고, 렌더링된 HTML 을 캐시하는 서비스입니다.
+ * <p>
+ * 목록/상세 페이지는 요청마다 같은 데이터로 같은 HTML 을 다시 렌더링합니다.
+ * 이 서비스는 게시물 데이터에만 의존하는 부분({@code fragments/articles.html})만 따로 렌더링하여
+ * {@link CacheConfig#FRAGMENTS} 캐시에 두고, 페이지 템플릿은 이 HTML 을 그대로 끼워 넣습니다.
+ * </p>
+ * <ul>
+ *   <li>캐시 키에는 데이터 버전({@link ArticleStamp}: 글 수 + 최종 수정 시간, 상세는 version)이 들어가므로
+ *       글이 바뀌면 이전 HTML 이 조회될 일이 없습니다.</li>
+ *   <li>게시물이 변경되면({@link ArticleChangedEvent}) 커밋 이후 캐시를 비워, 더 이상 쓰이지 않는 HTML 을 정리합니다.</li>
+ *   <li>조각은 로그인 사용자와 무관하므로 사용자 구분 없이 공유합니다.
+ *       사용자마다 달라지는 부분(버튼, 로그아웃 등)은 페이지 템플릿에서 요청마다 렌더링합니다.</li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+@Service
+public class ArticleFragmentService {
+
+    private static final String TEMPLATE = "fragments/articles";
+
+    private final ITemplateEngine templateEngine;
+    private final CacheManager cacheManager;
+    private final BlogService blogService;
+
+    /**
+     * 게시물 목록 카드와 페이지 이동 링크를 렌더링한 HTML 을 반환합니다.
+     *
+     * @param stamp 목록 페이지의 변경 표식 ({@link BlogService#findPageStamp(Long, int)})
+     * @param after 커서 (첫 페이지면 {@code null})
+     * @param limit 페이지 크기
+     * @return 렌더링된 HTML
+     */
+    public String renderCards(ArticleStamp stamp, Long after, int limit) {
+        String key = stamp.toETag("cards-" + after + "-" + limit);
+        return fragments().get(key, () -> {
+            ArticlePage<ArticleSummary> page = blogService.findPage(after, limit);
+            Context context = new Context(Locale.KOREAN);
+            context.setVariable("articles", page.getArticles());
+            context.setVariable("nextCursor", page.getNextCursor()); // 다음 페이지 커서 (마지막 페이지면 null)
+            context.setVariable("after", after);
+            context.setVariable("limit", limit);
+            return templateEngine.process(TEMPLATE, Set.of("cards"), context);
+        });
+    }
+
+    /**
+     * 조회수 순 게시물 목록 카드를 렌더링한 HTML 을 반환합니다.
+     * 조회수는 반영 주기({@code blog.views.flush-interval})마다 바뀌고 그때 변경 이벤트가 없으므로 캐시하지 않습니다.
+     *
+     * @param limit 최대 건수
+     * @return 렌더링된 HTML
+     */
+    public String renderPopularCards(int limit) {
+        Context context = new Context(Locale.KOREAN);
+        context.setVariable("articles", blogService.findPopular(limit));
+        context.setVariable("nextCursor", null); // 조회수 순 목록은 상위 limit 건만 보여 줌
+        context.setVariable("after", null);
+        context.setVariable("limit", limit);
+        return templateEngine.process(TEMPLATE, Set.of("cards"), context);
+    }
+
+    /**
+     * 게시물 본문을 렌더링한 HTML 을 반환합니다.
+     *
+     * @param id    게시물 id
+     * @param stamp 게시물의 변경 표식 ({@link BlogService#findStamp(Long)})
+     * @return 렌더링된 HTML
+     * @throws IllegalArgumentException 게시물이 없는 경우
+     */
+    public String renderArticle(Long id, ArticleStamp stamp) {
+        String key = "article-" + id + "-v" + stamp.getVersion();
+        return fragments().get(key, () -> {
+            Context context = new Context(Locale.KOREAN);
+            context.setVariable("article", blogService.findById(id));
+            return templateEngine.process(TEMPLATE, Set.of("article"), context);
+        });
+    }
+
+    /**
+     * 게시물이 변경되면 커밋 이후 렌더링 캐시를 비웁니다.
+     * <p>
+     * 목록 조각은 여러 페이지에 걸쳐 있어 어떤 키가 영향을 받는지 알 수 없으므로 전체를 비웁니다.
+     * 트랜잭션 인식 캐시의 {@code clear()}는 커밋 이후로 미뤄지므로, 이미 커밋된 뒤에 실행되는 이 메서드에서는
+     * 바로 반영되는 {@code invalidate()}를 사용합니다.
+     * </p>
+     *
+     * @param event 게시물 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        fragments().invalidate();
+    }
+
+    private Cache fragments() {
+        return cacheManager.getCache(CacheConfig.FRAGMENTS);
+    }
+}
@@ -0,0 +1,174 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.domain.ArticleChangedEvent;
+import com.adam9e96.BlogStudy.domain.CompressedTextConverter;
+import com.adam9e96.BlogStudy.dto.AddArticleRequest;
+import com.adam9e96.BlogStudy.dto.ArticleImportResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시물 대량 등록(import)을 담당하는 서비스입니다.
+ * <p>
+ * {@code POST /api/articles}를 글마다 호출하면 글마다 트랜잭션이 하나씩 생기고,
+ * {@code GenerationType.IDENTITY} 때문에 Hibernate 의 insert 배치도 동작하지 않습니다.
+ * 이 서비스는 다음 방식으로 대량의 글을 등록합니다.
+ * </p>
+ * <ul>
+ *   <li>요청 본문을 Jackson 스트리밍 파서로 한 건씩 읽습니다. (JSON 배열 또는 NDJSON 모두 지원)</li>
+ *   <li>{@code blog.import.batch-size} 건이 모이면 JDBC 배치 insert 로 한 번에 저장하고, 배치마다 커밋합니다.</li>
+ *   <li>배치가 끝나면 버퍼를 비우므로, 업로드 크기와 관계없이 메모리 사용량은 배치 크기만큼으로 일정합니다.</li>
+ * </ul>
+ * <p>
+ * 저장된 글마다 {@link ArticleChangedEvent}를 발행하므로 검색 색인 등 구독자에게도 반영됩니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ArticleImportService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO article (title, content, excerpt, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, 0)";
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public ArticleImportService(ObjectMapper objectMapper,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${blog.import.batch-size}") int batchSize) {
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 입력 스트림의 게시물을 배치 단위로 저장합니다.
+     * <p>
+     * 이미 커밋된 배치는 이후 배치가 실패해도 되돌리지 않습니다.
+     * 제목이 비어 있거나 내용이 없는 항목은 저장하지 않고 건너뜁니다.
+     * </p>
+     * <p>
+     * 입력이 중간에 올바른 JSON 이 아니면 그 앞까지 읽은 항목은 모두 저장하고 중단합니다.
+     * 이때 결과의 {@code error} 에 사유를 담으며, {@code imported + skipped} 는 처리한 항목 수이므로
+     * 클라이언트는 그 다음 항목부터 다시 보내면 됩니다.
+     * </p>
+     *
+     * @param body JSON 배열({@code [{...}, {...}]}) 또는 NDJSON(한 줄에 JSON 객체 하나) 형식의 입력
+     * @return 등록 결과 (중단된 경우 {@link ArticleImportResult#isFailed()})
+     * @throws IOException 입력 스트림을 읽는 중 오류가 발생한 경우
+     */
+    public ArticleImportResult importArticles(InputStream body) throws IOException {
+        long started = System.currentTimeMillis();
+        List<AddArticleRequest> chunk = new ArrayList<>(batchSize);
+        int imported = 0;
+        int skipped = 0;
+        int batches = 0;
+        String error = null;
+
+        // readValues 는 최상위 JSON 배열이면 원소를, 아니면 연속된 최상위 객체(NDJSON)를 하나씩 읽습니다.
+        try (MappingIterator<AddArticleRequest> requests =
+                     objectMapper.readerFor(AddArticleRequest.class).readValues(body)) {
+            while (requests.hasNextValue()) {
+                AddArticleRequest request = requests.nextValue();
+                if (!StringUtils.hasText(request.getTitle()) || request.getContent() == null) {
+                    skipped++;
+                    continue;
+                }
+                chunk.add(request);
+                if (chunk.size() == batchSize) {
+                    imported += insertChunk(chunk);
+                    batches++;
+                    chunk.clear();
+                    log.info("Article import progress: {} articles in {} batches", imported, batches);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            error = "잘못된 JSON 입니다. " + e.getOriginalMessage();
+        }
+
+        if (!chunk.isEmpty()) {
+            imported += insertChunk(chunk);
+            batches++;
+        }
+
+        long elapsed = System.currentTimeMillis() - started;
+        if (error != null) {
+            log.warn("Article import stopped at malformed JSON: {} imported, {} skipped, {} batches in {} ms",
+                    imported, skipped, batches, elapsed);
+        } else {
+            log.info("Article import finished: {} imported, {} skipped, {} batches in {} ms",
+                    imported, skipped, batches, elapsed);
+        }
+        return new ArticleImportResult(imported, skipped, batches, elapsed, error);
+    }
+
+    /**
+     * 한 배치를 하나의 트랜잭션에서 JDBC 배치 insert 로 저장합니다.
+     * 생성된 id 를 받아 저장된 글마다 {@link ArticleChangedEvent}를 발행합니다(커밋 이후 구독자에게 전달).
+     */
+    private int insertChunk(List<AddArticleRequest> chunk) {
+        Integer inserted = transactionTemplate.execute(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            AddArticleRequest request = chunk.get(i);
+                            ps.setString(1, request.getTitle());
+                            // 엔티티를 거치지 않으므로 본문 압축과 요약도 여기서 직접 처리합니다.
+                            ps.setBytes(2, CompressedTextConverter.compress(request.getContent()));
+                            ps.setString(3, Article.excerptOf(request.getContent()));
+                            ps.setTimestamp(4, now);
+                            ps.setTimestamp(5, now);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    },
+                    keyHolder);
+
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            for (int i = 0; i < keys.size(); i++) {
+                Long id = ((Number) keys.get(i).values().iterator().next()).longValue();
+                AddArticleRequest request = chunk.get(i);
+                eventPublisher.publishEvent(ArticleChangedEvent.created(id, request.getTitle(), request.getContent()));
+            }
+            return chunk.size();
+        });
+        return (inserted == null) ? 0 : inserted;
+    }
+}
@@ -0,0 +1,296 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.domain.ArticleChangedEvent;
+import com.adam9e96.BlogStudy.dto.ArticleSearchResult;
+import com.adam9e96.BlogStudy.dto.ArticleViewResponse;
+import com.adam9e96.BlogStudy.repository.BlogRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.highlight.Highlighter;
+import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
+import org.apache.lucene.search.highlight.QueryScorer;
+import org.apache.lucene.search.highlight.SimpleFragmenter;
+import org.apache.lucene.search.highlight.SimpleHTMLEncoder;
+import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게시물 제목/본문에 대한 전문 검색(full-text search)을 담당하는 서비스입니다.
+ * <p>
+ * 애플리케이션 내부에 Lucene 역색인(inverted index)을 두고, 한국어 형태소 분석기(nori)로 토큰화합니다.
+ * {@code LIKE '%q%'} 처럼 본문 전체를 스캔하지 않고 색인에서 바로 문서를 찾으며, BM25 점수 순으로 정렬합니다.
+ * </p>
+ * <p>
+ * <strong>색인 갱신:</strong>
+ * <ul>
+ *   <li>애플리케이션 시작 시 article 테이블 전체를 id 순으로 나누어 읽어 색인을 다시 만듭니다.</li>
+ *   <li>이후에는 {@link ArticleChangedEvent}를 커밋 이후에 받아 해당 문서만 추가/교체/삭제합니다.</li>
+ *   <li>검색기 갱신(refresh)은 변경이 있었을 때 다음 검색 직전에 한 번만 합니다.
+ *       대량 등록처럼 변경이 연속으로 들어와도 문서마다 refresh 하지 않습니다.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <strong>저장 필드:</strong>
+ *       색인은 힙({@link ByteBuffersDirectory})에 있으므로 게시물 id 만 저장하고 제목/본문은 저장하지 않습니다.
+ *       본문을 저장하면 DB 에 압축해 둔 본문의 압축하지 않은 사본이 힙에 하나 더 생깁니다.
+ *       결과의 제목과 하이라이트 조각은 검색된 게시물(최대 {@value #MAX_RESULTS}건)만 DB 에서 한 번에 읽어 만듭니다.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleSearchService {
+
+    /**
+     * 한 번에 반환할 수 있는 최대 검색 결과 수입니다.
+     */
+    public static final int MAX_RESULTS = 50;
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+
+    private static final int REBUILD_BATCH_SIZE = 500; // 색인 재생성 시 한 번에 읽을 게시물 수
+    private static final int SNIPPET_LENGTH = 150;     // 하이라이트 조각의 대략적인 길이(글자 수)
+
+    private final BlogRepository blogRepository;
+
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final Directory directory = new ByteBuffersDirectory();
+    private final AtomicBoolean dirty = new AtomicBoolean(); // 마지막 refresh 이후 색인 변경 여부
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    @PostConstruct
+    void open() throws IOException {
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        // IndexWriter 로부터 검색기를 열면 커밋하지 않은 변경도 refresh 후 바로 검색됩니다(near real-time).
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    /**
+     * 색인을 비우고 article 테이블 전체로 다시 만듭니다.
+     * <p>
+     * 전체를 한 번에 메모리에 올리지 않도록 id 기준 keyset 으로 {@value #REBUILD_BATCH_SIZE} 건씩 읽습니다.
+     * data.sql 까지 실행된 뒤(ApplicationReadyEvent)에 한 번 실행됩니다.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            writer.deleteAll();
+            long cursor = 0;
+            int indexed = 0;
+            List<ArticleViewResponse> batch;
+            do {
+                batch = blogRepository.findViewsByIdGreaterThan(cursor, Limit.of(REBUILD_BATCH_SIZE));
+                for (ArticleViewResponse article : batch) {
+                    writer.updateDocument(idTerm(article.getId()),
+                            toDocument(article.getId(), article.getTitle(), article.getContent()));
+                }
+                if (!batch.isEmpty()) {
+                    cursor = batch.get(batch.size() - 1).getId();
+                    indexed += batch.size();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            searcherManager.maybeRefreshBlocking();
+            log.info("Search index rebuilt: {} articles in {} ms", indexed, System.currentTimeMillis() - started);
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인 생성에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 게시물 변경 이벤트를 받아 색인에 반영합니다.
+     * <p>
+     * 커밋된 변경만 반영하도록 AFTER_COMMIT 단계에서 실행되며,
+     * 트랜잭션 밖에서 발행된 이벤트는 바로 반영합니다(fallbackExecution).
+     * 색인 반영에 실패해도 이미 커밋된 쓰기 요청을 실패시키지 않도록 예외는 로그만 남깁니다.
+     * </p>
+     *
+     * @param event 게시물 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        try {
+            Term id = idTerm(event.getArticleId());
+            if (event.getType() == ArticleChangedEvent.Type.DELETED) {
+                writer.deleteDocuments(id);
+            } else {
+                writer.updateDocument(id, toDocument(event.getArticleId(), event.getTitle(), event.getContent()));
+            }
+            dirty.set(true);
+        } catch (IOException e) {
+            log.warn("Failed to apply {} of article {} to search index", event.getType(), event.getArticleId(), e);
+        }
+    }
+
+    /**
+     * 제목과 본문에서 검색어를 찾아 관련도 순으로 반환합니다.
+     * <p>
+     * 제목에서 일치하는 경우 본문보다 2배의 가중치를 줍니다.
+     * 검색어의 Lucene 문법 문자({@code + - && || ! ( ) ...})는 이스케이프하여 일반 텍스트로 취급합니다.
+     * 단어마다 제목/본문 두 필드의 절이 만들어지므로, 단어 수와 절 수의 합이
+     * Lucene 의 최대 절 수({@code IndexSearcher.getMaxClauseCount()}, 1024)를 넘는 검색어(대략 340 단어 이상)는 거부합니다.
+     * </p>
+     *
+     * @param q     검색어
+     * @param limit 최대 결과 수 (1 ~ {@link #MAX_RESULTS})
+     * @return 검색 결과 목록 (점수 내림차순)
+     * @throws IllegalArgumentException 검색어를 해석할 수 없거나 단어가 너무 많은 경우
+     */
+    public List<ArticleSearchResult> search(String q, int limit) {
+        if (!StringUtils.hasText(q)) {
+            return List.of();
+        }
+        int size = Math.min(Math.max(limit, 1), MAX_RESULTS);
+        Query query = parse(q);
+
+        Map<Long, Float> scores = new LinkedHashMap<>(); // 게시물 id -> 점수 (점수 내림차순)
+        IndexSearcher searcher = null;
+        try {
+            if (dirty.getAndSet(false)) {
+                searcherManager.maybeRefreshBlocking();
+            }
+            searcher = searcherManager.acquire();
+            TopDocs topDocs = searcher.search(query, size);
+            StoredFields storedFields = searcher.storedFields();
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                scores.put(Long.valueOf(storedFields.document(scoreDoc.doc).get(ID)), scoreDoc.score);
+            }
+        } catch (IndexSearcher.TooManyClauses e) {
+            // 파싱은 최상위 절 수만 확인하므로, 중첩된 절까지 센 한도는 검색할 때 확인됩니다(TooManyNestedClauses).
+            throw new IllegalArgumentException("검색어의 단어가 너무 많습니다: " + q, e);
+        } catch (IOException e) {
+            throw new IllegalStateException("검색에 실패했습니다: " + q, e);
+        } finally {
+            if (searcher != null) {
+                release(searcher);
+            }
+        }
+        return toResults(query, scores);
+    }
+
+    /**
+     * 검색된 게시물의 제목과 본문을 DB 에서 한 번에 읽어 하이라이트한 결과를 만듭니다.
+     * 검색한 뒤 삭제된 게시물은 결과에서 뺍니다.
+     */
+    private List<ArticleSearchResult> toResults(Query query, Map<Long, Float> scores) {
+        if (scores.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ArticleViewResponse> articles = new HashMap<>();
+        for (ArticleViewResponse article : blogRepository.findViewsByIdIn(scores.keySet())) {
+            articles.put(article.getId(), article);
+        }
+        Highlighter highlighter = new Highlighter(
+                new SimpleHTMLFormatter("<mark>", "</mark>"),
+                new SimpleHTMLEncoder(),
+                new QueryScorer(query, CONTENT));
+        highlighter.setTextFragmenter(new SimpleFragmenter(SNIPPET_LENGTH));
+
+        List<ArticleSearchResult> results = new ArrayList<>(scores.size());
+        try {
+            for (Map.Entry<Long, Float> entry : scores.entrySet()) {
+                ArticleViewResponse article = articles.get(entry.getKey());
+                if (article != null) {
+                    results.add(new ArticleSearchResult(article.getId(), article.getTitle(),
+                            snippet(highlighter, article.getContent()), entry.getValue()));
+                }
+            }
+        } catch (IOException | InvalidTokenOffsetsException e) {
+            throw new IllegalStateException("검색 결과 조각을 만들지 못했습니다.", e);
+        }
+        return results;
+    }
+
+    private Query parse(String q) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(
+                new String[]{TITLE, CONTENT}, analyzer, Map.of(TITLE, 2.0f, CONTENT, 1.0f));
+        try {
+            return parser.parse(QueryParser.escape(q));
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("검색어를 해석할 수 없습니다: " + q, e);
+        }
+    }
+
+    /**
+     * 본문에서 검색어가 포함된 조각을 하이라이트하여 반환합니다.
+     * 제목에서만 일치하여 본문에 하이라이트할 부분이 없으면 본문 앞부분을 그대로 사용합니다.
+     */
+    private String snippet(Highlighter highlighter, String content)
+            throws IOException, InvalidTokenOffsetsException {
+        String fragment = highlighter.getBestFragment(analyzer, CONTENT, content);
+        if (fragment != null) {
+            return fragment;
+        }
+        return HtmlUtils.htmlEscape(content.length() > SNIPPET_LENGTH ? content.substring(0, SNIPPET_LENGTH) : content);
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("Failed to release index searcher", e);
+        }
+    }
+
+    private static Term idTerm(Long id) {
+        return new Term(ID, id.toString());
+    }
+
+    private static Document toDocument(Long id, String title, String content) {
+        Document document = new Document();
+        document.add(new StringField(ID, id.toString(), Field.Store.YES));
+        // 제목과 본문은 색인만 하고 저장하지 않습니다. 결과 화면에 필요한 값은 검색된 게시물만 DB 에서 읽습니다.
+        document.add(new TextField(TITLE, title, Field.Store.NO));
+        document.add(new TextField(CONTENT, content, Field.Store.NO));
+        return document;
+    }
+}
@@ -0,0 +1,365 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.domain.ArticleChangedEvent;
+import com.adam9e96.BlogStudy.dto.ArticleStreamMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 게시물 변경(등록/수정/삭제)을 server-sent events 로 알리는 서비스입니다.
+ * <p>
+ * 구독자마다 {@link SseEmitter}(비동기 응답)만 보관하므로 연결이 열려 있는 동안 요청 스레드를 쓰지 않습니다.
+ * </p>
+ * <p>
+ * <strong>링 버퍼:</strong>
+ * <ul>
+ *   <li>{@link ArticleChangedEvent}는 커밋 이후 발행 스레드 하나(single producer)가 순서대로 번호(sequence)를 붙여
+ *       크기가 고정된 링 버퍼({@code blog.stream.buffer-size})에 씁니다.</li>
+ *   <li>구독자(consumer)는 각자 다음에 읽을 번호만 가지고 버퍼를 읽으며, 전송은 구독자마다 한 번에 하나의
+ *       가상 스레드 작업으로 실행됩니다. 전송({@code emitter.send})은 소켓 쓰기에서 막힐 수 있지만,
+ *       막힌 구독자는 자기 가상 스레드만 붙잡으므로 발행이나 다른 구독자의 전송을 기다리게 하지 않습니다.</li>
+ *   <li>전송이 {@code blog.stream.send-timeout} 보다 오래 막혀 있는 구독자(읽지 않는 클라이언트)는 구독 목록에서 빼고
+ *       연결을 끊습니다. 클라이언트가 다시 연결하면 {@code Last-Event-ID} 로 이어 받거나 {@code resync} 를 받습니다.</li>
+ *   <li>한 번에 보낼 이벤트 중 같은 게시물의 수정 이벤트가 여러 개면 마지막 것만 보냅니다(coalescing).</li>
+ *   <li>구독자가 버퍼 크기보다 뒤처지면 밀린 이벤트를 버리고 {@code resync} 이벤트를 보냅니다.
+ *       이 이벤트를 받은 클라이언트는 목록을 다시 조회해야 합니다.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <strong>이어 받기:</strong>
+ * 이벤트 id 는 {@code 서버실행id-번호} 형식입니다. 다시 연결할 때 {@code Last-Event-ID} 헤더를 보내면
+ * 그 다음 이벤트부터 버퍼에 남아 있는 만큼 다시 보냅니다. 버퍼에서 이미 사라졌거나 서버가 다시 시작된 경우에는
+ * {@code resync} 이벤트를 보냅니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ArticleStreamService {
+
+    private static final String RESYNC = "resync";
+
+    /**
+     * 서버 실행마다 달라지는 값입니다. 재시작 후에는 번호가 다시 시작되므로 이전 실행의 이벤트 id 를 구분합니다.
+     */
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicReferenceArray<Entry> ring;
+    private final int mask;
+    private volatile long cursor; // 마지막으로 발행된 번호 (발행 스레드만 씀)
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService publisher;
+    private final ExecutorService dispatcher;
+    private final Duration timeout;
+    private final long sendTimeoutNanos;
+    private final int maxSubscribers;
+    private final Counter resyncs;
+    private final Counter stalled;
+
+    public ArticleStreamService(@Value("${blog.stream.buffer-size}") int bufferSize,
+                                @Value("${blog.stream.send-timeout}") Duration sendTimeout,
+                                @Value("${blog.stream.timeout}") Duration timeout,
+                                @Value("${blog.stream.max-subscribers}") int maxSubscribers,
+                                MeterRegistry meterRegistry) {
+        if (Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("blog.stream.buffer-size 는 2의 거듭제곱이어야 합니다: " + bufferSize);
+        }
+        this.ring = new AtomicReferenceArray<>(bufferSize);
+        this.mask = bufferSize - 1;
+        this.publisher = Executors.newSingleThreadExecutor(daemonThreads("article-stream-publish-"));
+        // 구독자마다 전송 작업은 최대 하나이므로 가상 스레드 수는 구독자 수를 넘지 않습니다.
+        this.dispatcher = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("article-stream-send-", 0).factory());
+        this.timeout = timeout;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.maxSubscribers = maxSubscribers;
+        this.resyncs = Counter.builder("blog.stream.resyncs")
+                .description("버퍼에서 밀려나 resync 를 보낸 횟수")
+                .register(meterRegistry);
+        this.stalled = Counter.builder("blog.stream.stalled")
+                .description("전송이 막혀 연결을 끊은 구독자 수")
+                .register(meterRegistry);
+        Gauge.builder("blog.stream.subscribers", subscribers, Set::size)
+                .description("게시물 변경 스트림 구독자 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void close() {
+        publisher.shutdownNow();
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /**
+     * 새 구독을 등록합니다.
+     *
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 id ({@code Last-Event-ID} 헤더, 처음 연결이면 {@code null})
+     * @return 구독자에게 이벤트를 보낼 emitter
+     * @throws IllegalStateException 구독자 수가 {@code blog.stream.max-subscribers} 에 도달한 경우
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(new SseEmitter(timeout.toMillis()), lastEventId);
+    }
+
+    /**
+     * 주어진 emitter 로 새 구독을 등록합니다.
+     */
+    SseEmitter subscribe(SseEmitter emitter, String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("구독자 수가 최대치(" + maxSubscribers + ")에 도달했습니다.");
+        }
+        long current = cursor;
+        Subscriber subscriber = new Subscriber(emitter, current + 1);
+        if (lastEventId != null) {
+            long resumeFrom = parseSequence(lastEventId) + 1;
+            if (resumeFrom > 0 && resumeFrom <= current + 1 && current - resumeFrom < ring.length()) {
+                subscriber.next = resumeFrom; // 버퍼에 남아 있는 이벤트부터 다시 보냄
+            } else {
+                subscriber.resync = true;
+            }
+        }
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /**
+     * 게시물이 변경되면 커밋 이후 링 버퍼에 기록하고 구독자에게 알립니다.
+     *
+     * @param event 게시물 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        ArticleStreamMessage message = new ArticleStreamMessage(
+                event.getArticleId(), event.getTitle(), Article.excerptOf(event.getContent()));
+        try {
+            publisher.execute(() -> publish(event.getType(), message));
+        } catch (RejectedExecutionException e) {
+            log.debug("Article stream is shutting down, event dropped");
+        }
+    }
+
+    /**
+     * 주기적으로 주석(heartbeat)을 보냅니다. 전송에 실패한 연결은 정리됩니다.
+     */
+    @Scheduled(fixedDelayString = "${blog.stream.heartbeat-interval}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeat = true;
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * 전송이 {@code blog.stream.send-timeout} 보다 오래 막혀 있는 구독자의 연결을 끊습니다.
+     * <p>
+     * 구독 목록에서 먼저 빼므로 이후 이벤트는 더 이상 이 구독자에게 전송되지 않습니다.
+     * 막힌 쓰기가 끝날 때까지 emitter 잠금을 기다릴 수 있으므로 연결 종료는 별도 가상 스레드에서 합니다.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${blog.stream.send-timeout}")
+    public void disconnectStalled() {
+        disconnectStalled(System.nanoTime());
+    }
+
+    /**
+     * 주어진 시각({@link System#nanoTime()} 기준)을 현재 시각으로 보고 막힌 구독자의 연결을 끊습니다.
+     */
+    void disconnectStalled(long now) {
+        for (Subscriber subscriber : subscribers) {
+            long since = subscriber.sendingSince;
+            if (since != 0 && now - since > sendTimeoutNanos && subscribers.remove(subscriber)) {
+                stalled.increment();
+                log.debug("Disconnecting stalled article stream subscriber");
+                try {
+                    dispatcher.execute(() -> subscriber.emitter.completeWithError(
+                            new IOException("전송이 " + Duration.ofNanos(sendTimeoutNanos) + " 이상 막혀 연결을 끊습니다.")));
+                } catch (RejectedExecutionException e) {
+                    log.debug("Article stream is shutting down");
+                }
+            }
+        }
+    }
+
+    /**
+     * 발행 스레드에서만 호출됩니다.
+     */
+    private void publish(ArticleChangedEvent.Type type, ArticleStreamMessage message) {
+        long sequence = cursor + 1;
+        ring.set((int) (sequence & mask), new Entry(sequence, type, message));
+        cursor = sequence; // volatile 쓰기: 이후 이 번호를 읽은 구독자에게 위 항목이 보입니다.
+        subscribers.forEach(this::schedule);
+    }
+
+    /**
+     * 구독자의 전송 작업이 실행 중이 아니면 전송 스레드 풀에 등록합니다. (구독자마다 작업은 최대 하나)
+     */
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.scheduled.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                subscriber.sendingSince = System.nanoTime();
+                send(subscriber);
+                subscriber.sendingSince = 0;
+                subscriber.scheduled.set(false);
+                // 전송하는 동안 새 이벤트가 발행되었으면 이어서 보냅니다. (막혀서 끊긴 구독자는 제외)
+            } while ((subscriber.next <= cursor || subscriber.heartbeat)
+                    && subscribers.contains(subscriber)
+                    && subscriber.scheduled.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            // 끊어진 연결: completeWithError 후 onError/onCompletion 콜백에서 목록에서 제거됩니다.
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    private void send(Subscriber subscriber) throws IOException {
+        SseEmitter emitter = subscriber.emitter;
+        long end = cursor;
+        List<Entry> batch = read(subscriber, end);
+        if (subscriber.resync) {
+            subscriber.resync = false;
+            resyncs.increment();
+            emitter.send(SseEmitter.event().id(eventId(end)).name(RESYNC).data(""));
+        }
+
+        // 같은 게시물의 수정 이벤트는 마지막 것만 보냅니다.
+        Map<Long, Long> lastUpdate = new HashMap<>();
+        for (Entry entry : batch) {
+            if (entry.type == ArticleChangedEvent.Type.UPDATED) {
+                lastUpdate.put(entry.message.getId(), entry.sequence);
+            }
+        }
+        for (Entry entry : batch) {
+            if (entry.type == ArticleChangedEvent.Type.UPDATED
+                    && lastUpdate.get(entry.message.getId()) != entry.sequence) {
+                continue;
+            }
+            emitter.send(SseEmitter.event()
+                    .id(eventId(entry.sequence))
+                    .name(entry.type.name().toLowerCase(Locale.ROOT))
+                    .data(entry.message));
+        }
+
+        if (subscriber.heartbeat) {
+            subscriber.heartbeat = false;
+            if (batch.isEmpty()) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    /**
+     * 구독자가 아직 받지 않은 이벤트를 {@code end} 번까지 읽습니다.
+     * 읽는 도중 덮어써진 항목이 있으면(버퍼보다 뒤처짐) 밀린 이벤트를 버리고 resync 를 표시합니다.
+     */
+    private List<Entry> read(Subscriber subscriber, long end) {
+        List<Entry> batch = new ArrayList<>();
+        for (long sequence = subscriber.next; sequence <= end; sequence++) {
+            Entry entry = ring.get((int) (sequence & mask));
+            if (entry == null || entry.sequence != sequence) {
+                batch.clear();
+                subscriber.resync = true;
+                break;
+            }
+            batch.add(entry);
+        }
+        subscriber.next = end + 1;
+        return batch;
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    /**
+     * 이 서버 실행에서 발행한 이벤트 id 이면 번호를, 아니면 {@code -1} 을 반환합니다.
+     */
+    private long parseSequence(String eventId) {
+        String prefix = epoch + "-";
+        if (!eventId.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static CustomizableThreadFactory daemonThreads(String prefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    /**
+     * 링 버퍼의 항목입니다. 덮어써졌는지 확인하기 위해 번호를 함께 보관합니다.
+     */
+    private static final class Entry {
+        private final long sequence;
+        private final ArticleChangedEvent.Type type;
+        private final ArticleStreamMessage message;
+
+        private Entry(long sequence, ArticleChangedEvent.Type type, ArticleStreamMessage message) {
+            this.sequence = sequence;
+            this.type = type;
+            this.message = message;
+        }
+    }
+
+    /**
+     * 구독자별 읽기 위치입니다. {@code next}, {@code resync}, {@code sendingSince} 는 전송 작업(구독자마다 하나)에서만 변경됩니다.
+     */
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile long next;
+        private volatile boolean resync;
+        private volatile boolean heartbeat;
+        private volatile long sendingSince; // 진행 중인 전송의 시작 시각(System.nanoTime), 전송 중이 아니면 0
+
+        private Subscriber(SseEmitter emitter, long next) {
+            this.emitter = emitter;
+            this.next = next;
+        }
+    }
+}
@@ -2,8 +2,13 @@ package com.adam9e96.BlogStudy.service;
 
 import com.adam9e96.BlogStudy.domain.Article;
 import com.adam9e96.BlogStudy.dto.AddArticleRequest;
+import com.adam9e96.BlogStudy.dto.ArticlePage;
+import com.adam9e96.BlogStudy.dto.ArticleStamp;
+import com.adam9e96.BlogStudy.dto.ArticleSummary;
+import com.adam9e96.BlogStudy.dto.ArticleViewResponse;
 import com.adam9e96.BlogStudy.dto.UpdateArticleRequest;
 
+import java.util.Collection;
 import java.util.List;
 
 
@@ -11,6 +16,22 @@ import java.util.List;
  * 블로그 게시물 관련 비즈니스 로직을 정의하는 서비스 인터페이스입니다.
  */
 public interface BlogService {
+
+    /**
+     * 한 페이지에서 조회할 수 있는 최대 게시물 수입니다.
+     */
+    int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 한 번에 삭제할 수 있는 최대 게시물 수입니다.
+     */
+    int MAX_DELETE_SIZE = 1000;
+
+    /**
+     * 목록을 조회수 순으로 정렬하는 {@code sort} 파라미터 값입니다. (생략하면 최신순)
+     */
+    String SORT_VIEWS = "views";
+
     /**
      * 새로운 블로그 게시물을 저장합니다.
      *
@@ -22,31 +43,77 @@ public interface BlogService {
     /**
      * 모든 블로그 게시물을 조회합니다.
      *
-     * @return 모든 게시물 엔티티 목록
+     * @return 모든 게시물 목록
+     */
+    List<ArticleViewResponse> findAll();
+
+    /**
+     * 커서 이후의 게시물 요약을 최신순으로 한 페이지 조회합니다.
+     *
+     * @param after 이전 페이지의 마지막 게시물 id, 첫 페이지라면 {@code null}
+     * @param limit 페이지 크기 (1 ~ {@link #MAX_PAGE_SIZE})
+     * @return 게시물 요약 페이지
      */
-    List<Article> findAll();
+    ArticlePage<ArticleSummary> findPage(Long after, int limit);
+
+    /**
+     * 조회수가 많은 순으로 게시물 요약을 조회합니다.
+     *
+     * @param limit 최대 건수 (1 ~ {@link #MAX_PAGE_SIZE})
+     * @return 게시물 요약 목록
+     */
+    List<ArticleSummary> findPopular(int limit);
 
     /**
      * 특정 ID에 해당하는 블로그 게시물을 조회합니다.
      *
      * @param id 게시물 ID
-     * @return 조회된 게시물 엔티티
+     * @return 조회된 게시물
+     */
+    ArticleViewResponse findById(Long id);
+
+    /**
+     * 특정 ID에 해당하는 게시물의 변경 표식(ETag / Last-Modified 계산용)을 조회합니다.
+     *
+     * @param id 게시물 ID
+     * @return 변경 표식 (게시물이 없으면 {@link ArticleStamp#isEmpty()})
      */
-    Article findById(Long id);
+    ArticleStamp findStamp(Long id);
+
+    /**
+     * 커서 이후 게시물 목록 한 페이지의 변경 표식(ETag 계산용)을 조회합니다.
+     *
+     * @param after 이전 페이지의 마지막 게시물 id, 첫 페이지라면 {@code null}
+     * @param limit 페이지 크기 (1 ~ {@link #MAX_PAGE_SIZE} 범위로 보정됩니다)
+     * @return 변경 표식
+     */
+    ArticleStamp findPageStamp(Long after, int limit);
 
     /**
      * 특정 ID에 해당하는 블로그 게시물을 삭제합니다.
      *
      * @param id 게시물 ID
+     * @return 삭제되었으면 {@code true}, 해당 게시물이 없으면 {@code false}
+     */
+    boolean delete(Long id);
+
+    /**
+     * 여러 게시물을 한 번에 삭제합니다.
+     *
+     * @param ids 게시물 ID 목록 (최대 {@link #MAX_DELETE_SIZE}개)
+     * @return 실제로 삭제된 게시물 수
      */
-    void delete(Long id);
+    int deleteAll(Collection<Long> ids);
 
     /**
-     * 특정 ID에 해당하는 블로그 게시물을 수정합니다.
+     * 특정 ID에 해당하는 블로그 게시물을 버전이 일치할 때만 수정합니다.
      *
-     * @param id      게시물 ID
-     * @param request 게시물 수정 요청 DTO
-     * @return 수정된 게시물 엔티티
+     * @param id              게시물 ID
+     * @param expectedVersion 수정 요청이 알고 있는 게시물 버전
+     * @param request         게시물 수정 요청 DTO
+     * @return 수정 후 게시물 버전
+     * @throws IllegalArgumentException                                       해당 ID에 해당하는 게시물이 없을 경우
+     * @throws org.springframework.dao.OptimisticLockingFailureException 다른 요청이 먼저 수정하여 버전이 다를 경우
      */
-    Article update(Long id, UpdateArticleRequest request);
+    long update(Long id, long expectedVersion, UpdateArticleRequest request);
 }
@@ -1,26 +1,55 @@
 package com.adam9e96.BlogStudy.service;
 
+import com.adam9e96.BlogStudy.config.CacheConfig;
 import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.domain.ArticleChangedEvent;
 import com.adam9e96.BlogStudy.dto.AddArticleRequest;
+import com.adam9e96.BlogStudy.dto.ArticlePage;
+import com.adam9e96.BlogStudy.dto.ArticleStamp;
+import com.adam9e96.BlogStudy.dto.ArticleSummary;
+import com.adam9e96.BlogStudy.dto.ArticleViewResponse;
 import com.adam9e96.BlogStudy.dto.UpdateArticleRequest;
 import com.adam9e96.BlogStudy.repository.BlogRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * {@link BlogService} 인터페이스를 구현하는 서비스 클래스입니다.
  * <p>
  * 블로그 게시물에 대한 비즈니스 로직을 처리합니다.
+ * 모든 메서드의 실행 시간은 {@code blog.service} 타이머(method 태그)로 기록됩니다.
+ * </p>
+ * <p>
+ * <strong>트랜잭션:</strong>
+ * 조회 메서드는 클래스에 지정한 읽기 전용 트랜잭션에서 실행됩니다. 읽기 전용 트랜잭션에서는
+ * Hibernate 세션의 flush 모드가 MANUAL 이 되고 엔티티를 읽기 전용으로 로드하므로,
+ * 변경 감지용 스냅샷을 만들지 않고 커밋 시 flush 도 하지 않습니다.
+ * 쓰기 메서드는 메서드에 {@code @Transactional}을 따로 지정합니다.
+ * </p>
+ * <p>
+ * open-in-view 를 끄고 엔티티는 서비스 안에서 DTO 로 변환하여 반환하므로,
+ * DB 커넥션은 조회하는 동안에만 사용되고 뷰(Thymeleaf) 렌더링이나 JSON 직렬화 동안에는 반환되어 있습니다.
  * </p>
  */
+@Timed(value = "blog.service", description = "BlogService 메서드 실행 시간")
 @RequiredArgsConstructor // final 이 붙거나 @NotNull 이 붙은 필드의 생성자 추가
+@Transactional(readOnly = true)
 @Service
 public class BlogServiceImpl implements BlogService {
 
     private final BlogRepository blogRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     /**
@@ -30,74 +59,217 @@ public class BlogServiceImpl implements BlogService {
      * AddArticleRequest 타입(DTO)으로 객체를 받으면
      * AddArticleRequest 의 toEntity 메서드를 이용해서 Article(entity) 객체로 변환하고
      * JPA의 CRUD 메서드인 save() 를 이용해 데이터베이스에 저장합니다.
+     * 저장 후 {@link ArticleChangedEvent}를 발행합니다.
      * </p>
      *
      * @param request 게시물 추가 요청 DTO
      * @return 저장된 게시물 엔티티
      */
     @Override
+    @Transactional
     public Article save(AddArticleRequest request) {
-        return blogRepository.save(request.toEntity());
+        Article article = blogRepository.save(request.toEntity());
+        eventPublisher.publishEvent(ArticleChangedEvent.created(article));
+        return article;
     }
 
     /**
      * 모든 블로그 게시물을 조회합니다.
      * <p>
-     * JPA의 {@link BlogRepository#findAll()} 메서드를 사용하여 article 테이블에 저장되어 있는 모든 데이터를 조회합니다.
+     * {@link BlogRepository#findAllViews()} 메서드를 사용하여 article 테이블에 저장되어 있는 모든 데이터를
+     * 엔티티 대신 DTO 로 바로 조회합니다. (지연 로딩 대상인 본문을 게시물마다 따로 읽지 않습니다)
      * </p>
      *
      * @return 게시물 리스트
      */
     @Override
-    public List<Article> findAll() {
-        return blogRepository.findAll();
+    public List<ArticleViewResponse> findAll() {
+        return blogRepository.findAllViews();
+    }
+
+    /**
+     * 커서 이후의 게시물 요약을 최신순으로 한 페이지 조회합니다.
+     * <p>
+     * 다음 페이지가 있는지 확인하기 위해 {@code limit + 1} 건을 조회하고,
+     * 초과분이 있으면 현재 페이지의 마지막 id 를 다음 커서로 사용합니다.
+     * 엔티티 대신 {@link ArticleSummary} 프로젝션을 사용하므로 본문 전체를 읽지 않습니다.
+     * </p>
+     *
+     * @param after 이전 페이지의 마지막 게시물 id, 첫 페이지라면 {@code null}
+     * @param limit 페이지 크기 (1 ~ {@link #MAX_PAGE_SIZE} 범위로 보정됩니다)
+     * @return 게시물 요약 페이지
+     */
+    @Override
+    public ArticlePage<ArticleSummary> findPage(Long after, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        long cursor = (after == null) ? Long.MAX_VALUE : after;
+
+        List<ArticleSummary> rows = blogRepository.findSummariesByIdLessThan(cursor, Limit.of(size + 1));
+        if (rows.size() <= size) {
+            return new ArticlePage<>(rows, null);
+        }
+        List<ArticleSummary> articles = rows.subList(0, size);
+        return new ArticlePage<>(articles, articles.get(size - 1).getId());
+    }
+
+    /**
+     * 조회수가 많은 순(같으면 최신순)으로 게시물 요약을 조회합니다.
+     * <p>
+     * 조회수는 {@link ViewCountService} 가 주기적으로 반영하므로, 마지막 반영 이후의 조회는 순위에 포함되지 않습니다.
+     * </p>
+     *
+     * @param limit 최대 건수 (1 ~ {@link #MAX_PAGE_SIZE} 범위로 보정됩니다)
+     * @return 게시물 요약 목록
+     */
+    @Override
+    public List<ArticleSummary> findPopular(int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        return blogRepository.findPopularSummaries(Limit.of(size));
     }
 
     /**
      * 특정 ID에 해당하는 블로그 게시물을 조회합니다.
      *
      * <p>
-     * JPA 지원 메서드인 findById()를 호출하고 orElseThrow()를 이용하여 값이 있으면
+     * {@link BlogRepository#findViewById(Long)}를 호출하고 orElseThrow()를 이용하여 값이 있으면
      * 해당 값을 반환하고 값이 없으면 지정한 예외와 메시지를 출력합니다.
      * </p>
+     * <p>
+     * 본문은 엔티티의 지연 로딩 대상이므로, 엔티티 대신 {@link ArticleViewResponse} 프로젝션으로 제목과 본문을 한 번에 읽습니다.
+     * </p>
+     * <p>
+     * 조회 결과는 {@link CacheConfig#ARTICLES} 캐시에 저장되어 이후 요청은 DB를 거치지 않습니다(read-through).
+     * 캐시 어드바이스가 트랜잭션보다 먼저 실행되므로 캐시 적중 시에는 트랜잭션도 시작하지 않습니다.
+     * {@code sync = true} 이므로 캐시에 없는 같은 id 로 동시에 요청이 몰려도 DB 조회는 한 번만 실행되고,
+     * 나머지 요청은 그 결과를 기다립니다(cache stampede 방지). 예외(없는 id)는 캐시하지 않습니다.
+     * </p>
      *
      * @param id 게시물 ID
-     * @return 조회된 게시물 엔티티
+     * @return 조회된 게시물
      * @throws IllegalArgumentException 해당 ID에 해당하는 게시물이 없을 경우
      */
     @Override
-    public Article findById(Long id) {
-        return blogRepository.findById(id)
+    @Cacheable(cacheNames = CacheConfig.ARTICLES, key = "#id", sync = true)
+    public ArticleViewResponse findById(Long id) {
+        return blogRepository.findViewById(id)
                 .orElseThrow(() ->
                         new IllegalArgumentException("not found: " + id));
     }
 
+    /**
+     * 특정 ID에 해당하는 게시물의 변경 표식을 조회합니다.
+     * <p>
+     * 캐시를 거치지 않고 항상 DB의 {@code updated_at} 을 확인하므로, 다른 인스턴스에서 수정된 경우에도
+     * 조건부 요청이 잘못된 304 를 돌려주지 않습니다.
+     * </p>
+     *
+     * @param id 게시물 ID
+     * @return 변경 표식
+     */
+    @Override
+    public ArticleStamp findStamp(Long id) {
+        return blogRepository.findStampById(id);
+    }
+
+    /**
+     * 커서 이후 게시물 목록 한 페이지의 변경 표식을 조회합니다.
+     * <p>
+     * {@link #findPage(Long, int)} 와 같은 {@code limit + 1} 건만 집계하므로, 다음 페이지가 생기거나 없어지는 것도 반영됩니다.
+     * </p>
+     *
+     * @param after 이전 페이지의 마지막 게시물 id, 첫 페이지라면 {@code null}
+     * @param limit 페이지 크기 (1 ~ {@link #MAX_PAGE_SIZE} 범위로 보정됩니다)
+     * @return 변경 표식
+     */
+    @Override
+    public ArticleStamp findPageStamp(Long after, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        return blogRepository.findPageStamp((after == null) ? Long.MAX_VALUE : after, size + 1);
+    }
+
     /**
      * 특정 ID에 해당하는 블로그 게시물을 삭제합니다.
+     * <p>
+     * {@code deleteById} 처럼 엔티티를 먼저 SELECT 하지 않고 DELETE 한 번으로 삭제합니다.
+     * 삭제 후 캐시에서도 해당 게시물을 제거하고 {@link ArticleChangedEvent}를 발행합니다.
+     * </p>
      *
      * @param id 게시물 ID
+     * @return 삭제되었으면 {@code true}, 해당 게시물이 없으면 {@code false}
      */
     @Override
-    public void delete(Long id) {
-        blogRepository.deleteById(id);
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ARTICLES, key = "#id")
+    public boolean delete(Long id) {
+        if (blogRepository.deleteArticleById(id) == 0) {
+            return false;
+        }
+        eventPublisher.publishEvent(ArticleChangedEvent.deleted(id));
+        return true;
     }
 
     /**
-     * 특정 ID에 해당하는 블로그 게시물을 수정합니다.
+     * 여러 게시물을 {@code DELETE ... WHERE id IN (...)} 한 번으로 삭제합니다.
+     * <p>
+     * 먼저 같은 트랜잭션에서 요청한 id 중 실제로 존재하는 게시물만 조회(행 잠금)한 뒤, 그 게시물들만 삭제하고
+     * 각각 {@link ArticleChangedEvent}를 발행합니다. 없는 id 로는 변경 기록이나 스트림 이벤트가 생기지 않습니다.
+     * 게시물 캐시는 전체를 비웁니다.
+     * </p>
      *
-     * @param id      게시물 ID
-     * @param request 게시물 수정 요청 DTO
-     * @return 수정된 게시물 엔티티
-     * @throws IllegalArgumentException 해당 ID에 해당하는 게시물이 없을 경우
+     * @param ids 게시물 ID 목록 (최대 {@link #MAX_DELETE_SIZE}개)
+     * @return 실제로 삭제된 게시물 수
+     * @throws IllegalArgumentException ID 가 {@link #MAX_DELETE_SIZE}개를 넘는 경우
      */
     @Override
     @Transactional
-    public Article update(Long id, UpdateArticleRequest request) {
-        Article article = blogRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+    @CacheEvict(cacheNames = CacheConfig.ARTICLES, allEntries = true)
+    public int deleteAll(Collection<Long> ids) {
+        if (ids.size() > MAX_DELETE_SIZE) {
+            throw new IllegalArgumentException("한 번에 삭제할 수 있는 게시물은 최대 " + MAX_DELETE_SIZE + "개입니다.");
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Long> existing = blogRepository.findExistingIdsForUpdate(ids);
+        if (existing.isEmpty()) {
+            return 0;
+        }
+        int deleted = blogRepository.deleteArticlesByIdIn(existing);
+        existing.forEach(id -> eventPublisher.publishEvent(ArticleChangedEvent.deleted(id)));
+        return deleted;
+    }
 
-        article.update(request.getTitle(), request.getContent());
+    /**
+     * 특정 ID에 해당하는 블로그 게시물을 버전이 일치할 때만 수정합니다.
+     * <p>
+     * 게시물을 먼저 읽지 않고 {@code UPDATE ... WHERE id = ? AND version = ?} 한 번으로 수정합니다.
+     * 수정된 행이 없을 때만 게시물 존재 여부를 확인하여, 없는 게시물과 버전 충돌을 구분합니다.
+     * 트랜잭션이 커밋된 뒤 캐시에서 해당 게시물을 제거하여, 다음 조회 때 수정된 값을 다시 읽도록 합니다.
+     * 수정 후 {@link ArticleChangedEvent}를 발행합니다.
+     * </p>
+     *
+     * @param id              게시물 ID
+     * @param expectedVersion 수정 요청이 알고 있는 게시물 버전
+     * @param request         게시물 수정 요청 DTO
+     * @return 수정 후 게시물 버전
+     * @throws IllegalArgumentException                 해당 ID에 해당하는 게시물이 없을 경우
+     * @throws ObjectOptimisticLockingFailureException 다른 요청이 먼저 수정하여 버전이 다를 경우
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ARTICLES, key = "#id")
+    public long update(Long id, long expectedVersion, UpdateArticleRequest request) {
+        int updated = blogRepository.updateIfVersionMatches(
+                id, expectedVersion, request.getTitle(), request.getContent(),
+                Article.excerptOf(request.getContent()), LocalDateTime.now());
+        if (updated == 0) {
+            if (!blogRepository.existsById(id)) {
+                throw new IllegalArgumentException("not found: " + id);
+            }
+            throw new ObjectOptimisticLockingFailureException(Article.class, id);
+        }
 
-        return article;
+        eventPublisher.publishEvent(ArticleChangedEvent.updated(id, request.getTitle(), request.getContent()));
+        return expectedVersion + 1;
     }
 }
@@ -4,7 +4,7 @@ import com.adam9e96.BlogStudy.domain.User;
 import com.adam9e96.BlogStudy.dto.AddUserRequest;
 import com.adam9e96.BlogStudy.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 /**
@@ -15,13 +15,13 @@ import org.springframework.stereotype.Service;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordEncoder passwordEncoder;
 
     public Long save(AddUserRequest dto) {
         return userRepository.save(User.builder()
                 .email(dto.getEmail())
                 // 패스워드 암호화
-                .password(bCryptPasswordEncoder.encode(dto.getPassword()))// 여기서 비밀번호를 암호화하여 저장합니다.
+                .password(passwordEncoder.encode(dto.getPassword()))// 여기서 비밀번호를 암호화하여 저장합니다.
                 .build()).getId();
     }
 
@@ -0,0 +1,158 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.domain.ArticleChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시물 조회수를 집계하는 서비스입니다.
+ * <p>
+ * 조회할 때마다 {@code UPDATE article SET views = views + 1} 을 실행하면 인기 글의 같은 행에 쓰기가 몰려
+ * 행 잠금을 기다리게 되고, 읽기 요청마다 쓰기 트랜잭션이 생깁니다. 이 서비스는 다음 방식으로 집계합니다(write-behind).
+ * </p>
+ * <ul>
+ *   <li>조회 시에는 게시물 id 별 {@link LongAdder}(스레드마다 다른 셀에 더하는 카운터)만 증가시킵니다.
+ *       DB 접근과 잠금이 없으므로 같은 글을 동시에 조회해도 서로 기다리지 않습니다.</li>
+ *   <li>{@code blog.views.flush-interval} 마다 쌓인 조회수를 JDBC 배치 UPDATE 한 번(트랜잭션 하나)으로 더합니다.
+ *       교착 상태를 피하기 위해 id 오름차순으로 반영합니다.</li>
+ *   <li>반영에 실패하면 읽어 낸 값을 카운터에 다시 더해 다음 주기에 재시도합니다.</li>
+ *   <li>한 주기 동안 조회가 없던 게시물의 카운터는 반영할 때 치웁니다. 한 번이라도 조회된 모든 글의 카운터가
+ *       메모리에 계속 남지 않습니다.</li>
+ *   <li>삭제된 게시물은 다음 반영까지 표식({@code DELETED})을 남겨, 삭제 직전에 시작된 조회가 카운터를 다시 만들지 않게 합니다.</li>
+ *   <li>정상 종료 시에는 남은 조회수를 반영합니다. 비정상 종료 시 잃는 조회수는 마지막 반영 이후(최대 한 주기)분입니다.</li>
+ * </ul>
+ * <p>
+ * 조회수 반영은 엔티티를 읽지 않도록 JdbcTemplate 배치 UPDATE 로 실행합니다.
+ * ({@code views} 컬럼은 엔티티에서 읽기 전용이라 엔티티 수정이 조회수를 덮어쓰지 않습니다.)
+ * </p>
+ */
+@Slf4j
+@Service
+public class ViewCountService {
+
+    private static final String UPDATE_SQL = "UPDATE article SET views = views + ? WHERE id = ?";
+
+    private static final LongAdder DELETED = new LongAdder(); // 삭제된 게시물 표식 (값을 더하지 않음)
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ViewCountService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 게시물 조회수를 1 증가시킵니다. (메모리에만 반영)
+     *
+     * @param id 게시물 ID
+     */
+    public void increment(Long id) {
+        LongAdder adder = pending.get(id); // 이미 있는 id 는 잠금 없이 조회
+        if (adder == null) {
+            adder = pending.computeIfAbsent(id, key -> new LongAdder());
+        }
+        if (adder == DELETED) {
+            return;
+        }
+        adder.increment();
+        if (pending.get(id) != adder) {
+            // 반영 작업이 빈 카운터를 치우는 사이에 더했으면, 치워진 카운터에 남은 값을 새 카운터로 옮깁니다.
+            add(id, adder.sumThenReset());
+        }
+    }
+
+    private void add(Long id, long count) {
+        if (count > 0) {
+            LongAdder adder = pending.computeIfAbsent(id, key -> new LongAdder());
+            if (adder != DELETED) {
+                adder.add(count);
+            }
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수를 반환합니다.
+     *
+     * @param id 게시물 ID
+     * @return 반영 대기 중인 조회수
+     */
+    public long getPending(Long id) {
+        LongAdder adder = pending.get(id);
+        return (adder == null) ? 0 : adder.sum();
+    }
+
+    /**
+     * 쌓인 조회수를 DB에 반영합니다.
+     * <p>
+     * {@link LongAdder#sumThenReset()} 은 셀마다 값을 읽고 0으로 바꾸므로, 반영 중에 들어온 조회는
+     * 이번 또는 다음 반영에 포함되며 사라지지 않습니다.
+     * 값이 0 인 카운터는 맵에서 치우며, 치우는 사이에 더해진 값은 치운 쪽이나 더한 쪽 중 한 곳에서
+     * {@code sumThenReset()} 으로 한 번만 옮겨집니다.
+     * </p>
+     *
+     * @return 반영한 게시물 수
+     */
+    @Scheduled(fixedDelayString = "${blog.views.flush-interval}")
+    public int flush() {
+        Map<Long, Long> counts = new TreeMap<>(); // id 오름차순
+        pending.forEach((id, adder) -> {
+            if (adder == DELETED) {
+                pending.remove(id, DELETED);
+                return;
+            }
+            long count = adder.sumThenReset();
+            if (count > 0) {
+                counts.put(id, count);
+            } else if (pending.remove(id, adder)) {
+                add(id, adder.sumThenReset());
+            }
+        });
+        if (counts.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> args = new ArrayList<>(counts.size());
+        counts.forEach((id, count) -> args.add(new Object[]{count, id}));
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, args));
+        } catch (RuntimeException e) {
+            counts.forEach(this::add);
+            log.warn("Failed to flush view counts of {} articles, will retry", counts.size(), e);
+            return 0;
+        }
+        log.debug("Flushed view counts of {} articles", counts.size());
+        return counts.size();
+    }
+
+    /**
+     * 게시물이 삭제되면 반영 대기 중인 조회수를 버리고, 다음 반영까지 해당 게시물의 조회수는 더하지 않습니다.
+     *
+     * @param event 게시물 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getType() == ArticleChangedEvent.Type.DELETED) {
+            pending.put(event.getArticleId(), DELETED);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
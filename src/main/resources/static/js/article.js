@@ -41,8 +41,9 @@ if (deleteButton) {
 /**
  * 수정 기능을 담당하는 코드입니다.
  * modifyButton 요소를 찾아 클릭 이벤트 리스너를 추가합니다.
- * 수정 시 제목과 내용을 가져와서 PUT 요청을 보냅니다.
+ * 수정 시 제목과 내용, 글 버전을 가져와서 PUT 요청을 보냅니다.
  * 요청이 완료되면 알림을 표시하고 해당 글 페이지로 이동합니다.
+ * 그 사이 다른 사용자가 글을 수정했다면(409) 덮어쓰지 않고 알림만 표시합니다.
  * BlogApiController의 @PutMapping("/api/articles/{id}") 로 전송
  */
 const modifyButton = document.getElementById('modify-btn');
@@ -62,12 +63,19 @@ if (modifyButton) {
             },
             body: JSON.stringify({
                 title: document.getElementById('title').value,
-                content: document.getElementById('content').value
+                content: document.getElementById('content').value,
+                version: document.getElementById('article-version').value
             })
         })
-            .then(() => {
-                alert('수정이 완료되었습니다.');
-                location.replace(`/articles/${id}`);
+            .then(response => {
+                if (response.ok) {
+                    alert('수정이 완료되었습니다.');
+                    location.replace(`/articles/${id}`);
+                } else if (response.status === 409) {
+                    alert('다른 사용자가 먼저 글을 수정했습니다. 글을 다시 불러온 뒤 수정해 주세요.');
+                } else {
+                    alert('수정에 실패했습니다.');
+                }
             });
     });
 }
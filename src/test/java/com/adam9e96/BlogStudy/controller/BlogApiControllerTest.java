@@ -1,10 +1,19 @@
 package com.adam9e96.BlogStudy.controller;
 
+import com.adam9e96.BlogStudy.config.SqlStatisticsFilter;
 import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.domain.ArticleChange;
+import com.adam9e96.BlogStudy.domain.ArticleChangedEvent;
+import com.adam9e96.BlogStudy.domain.CompressedTextConverter;
 import com.adam9e96.BlogStudy.dto.AddArticleRequest;
+import com.adam9e96.BlogStudy.dto.ArticleViewResponse;
 import com.adam9e96.BlogStudy.dto.UpdateArticleRequest;
+import com.adam9e96.BlogStudy.repository.ArticleChangeRepository;
 import com.adam9e96.BlogStudy.repository.BlogRepository;
+import com.adam9e96.BlogStudy.service.BlogService;
+import com.adam9e96.BlogStudy.service.ViewCountService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,22 +22,41 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.ResultMatcher;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
-@SpringBootTest // 테스트용 애플리케이션 컨텍스트
+@SpringBootTest(properties = "blog.sql.header-enabled=true") // 테스트용 애플리케이션 컨텍스트 (요청별 SQL 수 헤더 활성화)
 @AutoConfigureMockMvc // MockMvc 생성 및 자동 구성
+@RecordApplicationEvents // 테스트 중 발행된 ArticleChangedEvent 를 검증하기 위해 기록
 class BlogApiControllerTest {
 
     private static final Logger log = LoggerFactory.getLogger(BlogApiControllerTest.class);
@@ -48,9 +76,35 @@ class BlogApiControllerTest {
     @Autowired
     BlogRepository blogRepository;
 
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    SqlStatisticsFilter sqlStatisticsFilter;
+
+    @Autowired
+    ViewCountService viewCountService;
+
+    @Autowired
+    ArticleChangeRepository articleChangeRepository;
+
+    @Autowired
+    ApplicationEvents applicationEvents;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
     @BeforeEach
     public void mockMvcSetup() {
-        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.context).build();
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.context)
+                .addFilters(sqlStatisticsFilter) // X-Sql-Count 헤더로 요청별 쿼리 수를 검증하기 위해 추가
+                .build();
         this.blogRepository.deleteAll();
     }
 
@@ -91,7 +145,107 @@ class BlogApiControllerTest {
         List<Article> articles = blogRepository.findAll();
         assertThat(articles.size()).isEqualTo(1); // 크기가 1인지 검증. 블로그 글의 개수가 1인지 확인
         assertThat(articles.get(0).getTitle()).isEqualTo(title);
-        assertThat(articles.get(0).getContent()).isEqualTo(content);
+        // 본문은 지연 로딩 대상이므로 트랜잭션 밖의 엔티티 대신 프로젝션으로 확인합니다.
+        assertThat(blogRepository.findViewById(articles.get(0).getId()).orElseThrow().getContent()).isEqualTo(content);
+    }
+
+    /**
+     * <h2>IMPORT</h2>
+     * given : NDJSON(한 줄에 게시물 하나) 형식의 요청 본문을 만듭니다. 두 번째 줄은 제목이 비어 있습니다.
+     * when  : 대량 등록 API에 요청을 보냅니다.
+     * then : 응답 코드가 200 OK 이고, 제목이 있는 두 건만 저장되었는지 확인합니다.
+     */
+    @DisplayName("importArticles: NDJSON 으로 블로그 글을 대량 등록한다.")
+    @Test
+    public void importArticles() throws Exception {
+        // given
+        final String url = "/api/articles/import";
+        final String requestBody = String.join("\n",
+                objectMapper.writeValueAsString(new AddArticleRequest("title1", "content1")),
+                objectMapper.writeValueAsString(new AddArticleRequest("", "no title")),
+                objectMapper.writeValueAsString(new AddArticleRequest("title2", "content2")));
+
+        // when
+        ResultActions result = mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(requestBody));
+
+        // then
+        result
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.skipped").value(1));
+
+        List<Article> articles = blogRepository.findAll();
+        assertThat(articles).extracting(Article::getTitle).containsExactlyInAnyOrder("title1", "title2");
+        assertThat(articles).allSatisfy(article -> assertThat(article.getCreatedAt()).isNotNull());
+    }
+
+    /**
+     * <h3>
+     * 잘못된 줄이 섞인 대량 등록 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 정상 게시물 2줄, 잘린 JSON 1줄, 정상 게시물 1줄로 된 NDJSON 요청 본문을 만듭니다.</li>
+     *     <li> When : 대량 등록 API를 호출합니다.</li>
+     *     <li> Then : 응답 코드가 400 Bad Request 이고, 잘못된 줄 앞의 2건만 저장되었으며 저장 건수와 오류 메시지가 반환되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("importArticles: 중간에 잘못된 JSON 이 있으면 그 앞까지 저장하고 400 과 저장 건수를 반환한다.")
+    @Test
+    public void importArticlesMalformed() throws Exception {
+        // given
+        final String url = "/api/articles/import";
+        final String requestBody = String.join("\n",
+                objectMapper.writeValueAsString(new AddArticleRequest("title1", "content1")),
+                objectMapper.writeValueAsString(new AddArticleRequest("title2", "content2")),
+                "{\"title\": \"broken\", ",
+                objectMapper.writeValueAsString(new AddArticleRequest("title3", "content3")));
+
+        // when
+        ResultActions result = mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(requestBody));
+
+        // then
+        result
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.skipped").value(0))
+                .andExpect(jsonPath("$.error").exists());
+        assertThat(blogRepository.findAll()).extracting(Article::getTitle).containsExactlyInAnyOrder("title1", "title2");
+    }
+
+    /**
+     * <h3>
+     * 블로그 글 전체 내보내기 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 블로그 글 2개를 저장합니다.</li>
+     *     <li> When : 내보내기 API를 호출하고 비동기로 출력되는 응답이 끝날 때까지 기다립니다.</li>
+     *     <li> Then : 응답 코드가 200 OK이고, 저장한 글이 id 순서대로 한 줄에 하나씩 출력되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("exportArticles: 블로그 글 전체를 NDJSON 으로 내보낸다.")
+    @Test
+    public void exportArticles() throws Exception {
+        // given
+        final String url = "/api/articles/export";
+        Article first = blogRepository.save(Article.builder().title("title1").content("content1").build());
+        Article second = blogRepository.save(Article.builder().title("title2").content("content2").build());
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+
+        // then
+        String[] lines = mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("id").asLong()).isEqualTo(first.getId());
+        assertThat(objectMapper.readTree(lines[1]).get("title").asText()).isEqualTo(second.getTitle());
     }
 
     /**
@@ -101,7 +255,7 @@ class BlogApiControllerTest {
      * <ul>
      *     <li> Given : 블로그 글을 저장합니다.</li>
      *     <li> When : 목록 조회 API를 호출합니다.</li>
-     *     <li> Then : 응답 코드가 200 OK이고, 반환받은 값 중에 0번쨰 요소의 content와 title이 저장된 값과 같은지 확인합니다.</li>
+     *     <li> Then : 응답 코드가 200 OK이고, 반환받은 값 중에 0번쨰 요소의 excerpt(본문 요약)와 title이 저장된 값과 같은지 확인합니다.</li>
      * </ul>
      */
     @DisplayName("findAllArticles() : 블로그 글 목록 조회에 성공한다.")
@@ -125,10 +279,83 @@ class BlogApiControllerTest {
         // then
         result
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].content").value(content))
+                .andExpect(jsonPath("$[0].excerpt").value(content))
                 .andExpect(jsonPath("$[0].title").value(title));
     }
 
+    /**
+     * <h3>
+     * 블로그 글 목록 페이지 조회 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 블로그 글 3개를 저장합니다.</li>
+     *     <li> When : limit=2 로 목록 조회 API를 호출한 뒤, Link 헤더의 커서로 다음 페이지를 호출합니다.</li>
+     *     <li> Then : 첫 페이지는 최신 글 2개와 next 링크를, 두 번째 페이지는 나머지 1개만 반환하는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("findAllArticles() : 커서 기반으로 블로그 글 목록을 페이지 단위로 조회한다.")
+    @Test
+    public void findAllArticlesWithCursor() throws Exception {
+        // given
+        final String url = "/api/articles";
+        Article first = blogRepository.save(Article.builder().title("title1").content("content1").build());
+        Article second = blogRepository.save(Article.builder().title("title2").content("content2").build());
+        Article third = blogRepository.save(Article.builder().title("title3").content("content3").build());
+
+        // when
+        ResultActions firstPage = mockMvc.perform(get(url).param("limit", "2"));
+        ResultActions lastPage = mockMvc.perform(get(url)
+                .param("after", String.valueOf(second.getId()))
+                .param("limit", "2"));
+
+        // then
+        firstPage
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value(third.getTitle()))
+                .andExpect(jsonPath("$[1].title").value(second.getTitle()))
+                .andExpect(header().string("Link", containsString("after=" + second.getId())));
+        lastPage
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value(first.getTitle()))
+                .andExpect(header().doesNotExist("Link"));
+    }
+
+    /**
+     * <h3>
+     * 비동기 조회 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 블로그 글을 저장합니다.</li>
+     *     <li> When : 비동기 조회 API를 호출하고, 조회 전용 스레드 풀에서 조회가 끝날 때까지 기다립니다.</li>
+     *     <li> Then : 저장한 글이 반환되고, 없는 글은 404 Not Found 가 반환되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("findArticleAsync: 블로그 글을 비동기 API로 조회한다.")
+    @Test
+    public void findArticleAsync() throws Exception {
+        // given
+        final String url = "/api/async/articles/{id}";
+        Article savedArticle = blogRepository.save(Article.builder().title("title").content("content").build());
+
+        // when
+        MvcResult found = mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult missing = mockMvc.perform(get(url, savedArticle.getId() + 1))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(found))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("title"))
+                .andExpect(jsonPath("$.content").value("content"));
+        mockMvc.perform(asyncDispatch(missing))
+                .andExpect(status().isNotFound());
+    }
+
     /**
      * <h3>
      * 블로그 글을 id 로 조회하는 테스트
@@ -167,6 +394,93 @@ class BlogApiControllerTest {
                 .andExpect(jsonPath("$.title").value(title));
     }
 
+    @DisplayName("findArticleContent: 압축하여 저장한 큰 본문을 스트림으로 조회한다.")
+    @Test
+    public void findArticleContent() throws Exception {
+        // given
+        String content = "긴 본문의 한 줄입니다. 😀\n".repeat(500);
+        Article article = blogRepository.save(Article.builder().title("title").content(content).build());
+        assertThat(CompressedTextConverter.compress(content).length).isLessThan(content.getBytes(StandardCharsets.UTF_8).length);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/articles/{id}/content", article.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8)).isEqualTo(content);
+        assertThat(blogRepository.findViewById(article.getId()).orElseThrow().getContent()).isEqualTo(content);
+        byte[] stored = jdbcTemplate.queryForObject(
+                "SELECT content FROM article WHERE id = ?", byte[].class, article.getId());
+        assertThat(stored[0] & 0xFF).isEqualTo(0xFF); // LZ4 프레임 표식
+        mockMvc.perform(get("/api/articles/{id}/content", article.getId() + 1000))
+                .andExpect(status().isNotFound());
+    }
+
+    @DisplayName("queryBudget: 목록 / 상세 조회는 글 수와 관계없이 정해진 수의 SQL 만 실행한다.")
+    @Test
+    public void queryBudget() throws Exception {
+        // given
+        List<Article> articles = blogRepository.saveAll(List.of(
+                Article.builder().title("title1").content("content1").build(),
+                Article.builder().title("title2").content("content2").build(),
+                Article.builder().title("title3").content("content3").build()));
+        Long id = articles.get(0).getId();
+
+        // when & then
+        // 목록: 변경 여부(ETag) 확인 + 요약 조회
+        mockMvc.perform(get("/api/articles"))
+                .andExpect(status().isOk())
+                .andExpect(sqlCountAtMost(2));
+        // 상세: 변경 여부 확인 + 본문 조회, 두 번째부터는 캐시에서 읽으므로 변경 여부 확인만
+        mockMvc.perform(get("/api/articles/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(sqlCountAtMost(2));
+        mockMvc.perform(get("/api/articles/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(sqlCountAtMost(1));
+    }
+
+    /**
+     * 요청 처리 중 실행된 SQL 수({@link SqlStatisticsFilter#COUNT_HEADER} 헤더)가 max 이하인지 확인합니다.
+     */
+    private static ResultMatcher sqlCountAtMost(int max) {
+        return result -> {
+            String count = result.getResponse().getHeader(SqlStatisticsFilter.COUNT_HEADER);
+            assertThat(count).isNotNull();
+            assertThat(Integer.parseInt(count)).isLessThanOrEqualTo(max);
+        };
+    }
+
+    /**
+     * <h3>
+     * 서비스 실행 시간 지표 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 블로그 글을 저장합니다.</li>
+     *     <li> When : 블로그 글 id로 조회 API를 호출합니다.</li>
+     *     <li> Then : {@code blog.service} 타이머의 {@code method=findById} 기록 건수가 1 이상인지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("findArticle: 서비스 메서드 실행 시간이 blog.service 타이머에 기록된다.")
+    @Test
+    public void findArticleRecordsServiceTimer() throws Exception {
+        // given
+        Article article = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+
+        // when
+        mockMvc.perform(get("/api/articles/{id}", article.getId()))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(meterRegistry.get("blog.service").tag("method", "findById").timer().count()).isPositive();
+    }
+
     /**
      * <h3>
      * 블로그 글 id 삭제
@@ -199,6 +513,67 @@ class BlogApiControllerTest {
         assertThat(articles).isEmpty();
     }
 
+    /**
+     * <h3>
+     * 없는 블로그 글 삭제
+     * </h3>
+     * <ul>
+     *     <li> Given : 저장되지 않은 id({@code Long.MAX_VALUE})를 준비합니다.</li>
+     *     <li> When : 해당 id로 삭제 API를 호출합니다.</li>
+     *     <li> Then : 응답 코드가 404 Not Found 인지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("deleteArticle() : 없는 글을 삭제하면 404를 반환한다.")
+    @Test
+    public void deleteMissingArticle() throws Exception {
+        // when & then
+        mockMvc.perform(delete("/api/articles/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * <h3>
+     * 블로그 글 일괄 삭제
+     * </h3>
+     * <ul>
+     *     <li> Given : 블로그 글 3개를 저장합니다.</li>
+     *     <li> When : 저장한 글 2개의 id와 없는 id 하나로 일괄 삭제 API를 한 번 호출합니다.</li>
+     *     <li> Then : 요청 3건 중 2건이 SQL 2번 이내로 삭제되고, 삭제 이벤트와 변경 기록은 실제로 삭제된 글에만 남는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("deleteArticles() : 여러 글을 한 번의 DELETE 로 삭제한다.")
+    @Test
+    public void deleteArticles() throws Exception {
+        // given
+        List<Article> saved = blogRepository.saveAll(List.of(
+                Article.builder().title("title1").content("content1").build(),
+                Article.builder().title("title2").content("content2").build(),
+                Article.builder().title("title3").content("content3").build()));
+
+        // when
+        ResultActions result = mockMvc.perform(delete("/api/articles")
+                .param("ids", saved.get(0).getId() + "," + saved.get(1).getId() + "," + Long.MAX_VALUE));
+
+        // then
+        // 존재하는 id 조회(행 잠금) + DELETE 한 번
+        result
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(3))
+                .andExpect(jsonPath("$.deleted").value(2))
+                .andExpect(sqlCountAtMost(2));
+        assertThat(blogRepository.findAll()).extracting(Article::getId).containsExactly(saved.get(2).getId());
+
+        // 없는 id(Long.MAX_VALUE)로는 삭제 이벤트도, 변경 기록도 남지 않음
+        assertThat(applicationEvents.stream(ArticleChangedEvent.class))
+                .extracting(ArticleChangedEvent::getArticleId)
+                .containsExactlyInAnyOrder(saved.get(0).getId(), saved.get(1).getId());
+        assertThat(articleChangeRepository.findBySeqGreaterThanOrderBySeqAsc(0L, Limit.unlimited()))
+                .filteredOn(change -> change.getType() == ArticleChangedEvent.Type.DELETED)
+                .extracting(ArticleChange::getArticleId)
+                .contains(saved.get(0).getId(), saved.get(1).getId())
+                .doesNotContain(Long.MAX_VALUE);
+    }
+
     /**
      * <h2>
      * 블로그 글 수정하기 id
@@ -227,7 +602,7 @@ class BlogApiControllerTest {
         final String newTitle = "newTitle9e96";
         final String newContent = "newContent9e96";
 
-        UpdateArticleRequest request = new UpdateArticleRequest(newTitle, newContent);
+        UpdateArticleRequest request = new UpdateArticleRequest(newTitle, newContent, saveArticle.getVersion());
 
         // when
         ResultActions result = mockMvc.perform(put(url, saveArticle.getId())
@@ -237,10 +612,563 @@ class BlogApiControllerTest {
         // then
         result.andExpect(status().isOk());
 
-        Article article = blogRepository.findById(saveArticle.getId()).get();
+        ArticleViewResponse article = blogRepository.findViewById(saveArticle.getId()).orElseThrow();
 
         assertThat(article.getTitle()).isEqualTo(newTitle);
         assertThat(article.getContent()).isEqualTo(newContent);
 
     }
-}
\ No newline at end of file
+
+    /**
+     * <h2>
+     * 동시 수정 충돌
+     * </h2>
+     * <ul>
+     *     <li> Given : 블로그 글을 저장하고 조회 응답의 ETag 로 한 번 수정합니다.</li>
+     *     <li> When : 수정 전 버전(이전 ETag / version)으로 다시 수정 요청을 보냅니다.</li>
+     *     <li> Then : If-Match 는 412, 본문의 version 은 409 로 거부되고 먼저 수정한 내용이 유지되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("updateArticle: 다른 요청이 먼저 수정한 글은 412 / 409 로 거부한다.")
+    @Test
+    public void updateArticleConflict() throws Exception {
+        // given
+        final String url = "/api/articles/{id}";
+        Article saveArticle = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+        String staleETag = mockMvc.perform(get(url, saveArticle.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(put(url, saveArticle.getId())
+                        .header("If-Match", staleETag)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("first", "first", null))))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"article-" + saveArticle.getId() + "-v1\""));
+
+        // when & then
+        mockMvc.perform(put(url, saveArticle.getId())
+                        .header("If-Match", staleETag)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("second", "second", null))))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put(url, saveArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(
+                                new UpdateArticleRequest("second", "second", saveArticle.getVersion()))))
+                .andExpect(status().isConflict());
+
+        Article article = blogRepository.findById(saveArticle.getId()).get();
+        assertThat(article.getTitle()).isEqualTo("first");
+        assertThat(article.getVersion()).isEqualTo(1L);
+    }
+
+    /**
+     * <h2>
+     * 없는 글 수정
+     * </h2>
+     * <ul>
+     *     <li> Given : 블로그 글을 저장했다가 삭제합니다.</li>
+     *     <li> When : 삭제한 글의 id 로 본문 version 과 If-Match 헤더를 각각 보내 수정 요청을 보냅니다.</li>
+     *     <li> Then : 버전 충돌(409 / 412)이나 500 이 아닌 404 Not Found 가 반환되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("updateArticle: 없는 글을 수정하면 404 를 반환한다.")
+    @Test
+    public void updateMissingArticle() throws Exception {
+        // given
+        final String url = "/api/articles/{id}";
+        Article saveArticle = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+        blogRepository.deleteById(saveArticle.getId());
+
+        // when & then
+        mockMvc.perform(put(url, saveArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(
+                                new UpdateArticleRequest("new", "new", saveArticle.getVersion()))))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(put(url, saveArticle.getId())
+                        .header("If-Match", "W/\"article-" + saveArticle.getId() + "-v0\"")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("new", "new", null))))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * <h3>
+     * 없는 글 조회 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 저장된 적 없는 id 를 준비합니다.</li>
+     *     <li> When : 그 id 로 조회 API를 호출합니다.</li>
+     *     <li> Then : 500 이 아닌 404 Not Found 가 반환되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("findArticle: 없는 글을 조회하면 404 를 반환한다.")
+    @Test
+    public void findMissingArticle() throws Exception {
+        mockMvc.perform(get("/api/articles/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * <h2>
+     * 게시물 캐시 무효화
+     * </h2>
+     * <ul>
+     *     <li> Given : 블로그 글을 저장하고 id로 한 번 조회하여 캐시에 올립니다.</li>
+     *     <li> When : UPDATE API로 수정 요청을 보낸 뒤 다시 id로 조회합니다.</li>
+     *     <li> Then : 캐시된 이전 값이 아닌 수정된 제목과 내용이 반환되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("findArticle: 글을 수정하면 캐시가 무효화되어 수정된 글이 조회된다.")
+    @Test
+    public void findArticleAfterUpdate() throws Exception {
+        // given
+        final String url = "/api/articles/{id}";
+        Article saveArticle = blogRepository.save(
+                Article.builder()
+                        .title("title9e96")
+                        .content("content9e96")
+                        .build());
+        mockMvc.perform(get(url, saveArticle.getId()))
+                .andExpect(status().isOk());
+
+        UpdateArticleRequest request = new UpdateArticleRequest("newTitle9e96", "newContent9e96", saveArticle.getVersion());
+
+        // when
+        mockMvc.perform(put(url, saveArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+        ResultActions result = mockMvc.perform(get(url, saveArticle.getId()));
+
+        // then
+        result
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value(request.getTitle()))
+                .andExpect(jsonPath("$.content").value(request.getContent()));
+    }
+
+    /**
+     * <h3>
+     * 조회수 집계 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 블로그 글 두 개를 저장하고, 두 번째 글을 두 번, 첫 번째 글을 한 번 조회합니다.</li>
+     *     <li> When : 메모리에 쌓인 조회수를 DB에 반영합니다.</li>
+     *     <li> Then : 조회수가 저장되고, 조회수 순 목록에서 두 번째 글이 먼저 반환되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("articleViews: 조회수를 모아서 반영하고 조회수 순으로 목록을 조회한다.")
+    @Test
+    public void articleViews() throws Exception {
+        // given
+        Article first = blogRepository.save(Article.builder().title("title1").content("content1").build());
+        Article second = blogRepository.save(Article.builder().title("title2").content("content2").build());
+        mockMvc.perform(get("/articles/{id}", second.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/articles/{id}", second.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/articles/{id}", first.getId())).andExpect(status().isOk());
+
+        // when
+        viewCountService.flush();
+
+        // then
+        assertThat(blogRepository.findStampById(second.getId()).getViews()).isEqualTo(2);
+        assertThat(blogRepository.findStampById(first.getId()).getViews()).isEqualTo(1);
+        mockMvc.perform(get("/api/articles").param("sort", "views"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(second.getId()))
+                .andExpect(jsonPath("$[1].id").value(first.getId()));
+    }
+
+    /**
+     * <h3>
+     * 조건부 GET 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 블로그 글을 저장하고 id로 조회하여 ETag 를 받습니다.</li>
+     *     <li> When : 받은 ETag 를 If-None-Match 헤더에 담아 다시 조회합니다.</li>
+     *     <li> Then : 글이 바뀌지 않았으므로 본문 없이 304 Not Modified 가 반환되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("findArticle: 글이 바뀌지 않았으면 If-None-Match 조회에 304를 반환한다.")
+    @Test
+    public void findArticleNotModified() throws Exception {
+        // given
+        final String url = "/api/articles/{id}";
+        Article saveArticle = blogRepository.save(
+                Article.builder()
+                        .title("title9e96")
+                        .content("content9e96")
+                        .build());
+        String eTag = mockMvc.perform(get(url, saveArticle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when
+        ResultActions result = mockMvc.perform(get(url, saveArticle.getId())
+                .header("If-None-Match", eTag));
+
+        // then
+        result.andExpect(status().isNotModified());
+        assertThat(result.andReturn().getResponse().getContentAsString()).isEmpty();
+    }
+
+    /**
+     * <h3>
+     * 목록 조건부 GET 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 블로그 글 4개를 저장하고 limit=2 로 첫 페이지를 조회하여 ETag 를 받습니다.</li>
+     *     <li> When : 페이지 밖의 글을 삭제한 뒤, 페이지 안의 글을 삭제한 뒤 각각 같은 ETag 로 다시 조회합니다.</li>
+     *     <li> Then : 페이지 밖의 변경에는 304, 페이지 안의 변경에는 200 이 반환되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("findAllArticles() : 목록 ETag 는 페이지에 보이는 글이 바뀔 때만 바뀐다.")
+    @Test
+    public void findAllArticlesNotModified() throws Exception {
+        // given
+        final String url = "/api/articles";
+        List<Article> articles = blogRepository.saveAll(List.of(
+                Article.builder().title("title1").content("content1").build(),
+                Article.builder().title("title2").content("content2").build(),
+                Article.builder().title("title3").content("content3").build(),
+                Article.builder().title("title4").content("content4").build()));
+        String eTag = mockMvc.perform(get(url).param("limit", "2"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        // 첫 페이지(글 4, 3)와 다음 페이지 존재 여부(글 2)만 집계하므로 글 1 의 삭제는 ETag 를 바꾸지 않음
+        blogRepository.deleteById(articles.get(0).getId());
+        mockMvc.perform(get(url).param("limit", "2").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        blogRepository.deleteById(articles.get(2).getId());
+        mockMvc.perform(get(url).param("limit", "2").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].title").value("title2"));
+    }
+
+    /**
+     * <h3>
+     * 블로그 글 변경 기록 조회 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 현재 변경 기록 위치를 받아 두고, 블로그 글을 추가한 뒤 두 번 수정하고, 다른 글을 추가 후 삭제합니다.</li>
+     *     <li> When : 받아 둔 위치 이후의 변경 기록을 조회합니다.</li>
+     *     <li> Then : 게시물마다 마지막 변경만 반환되고, next 로 다시 조회하면 변경이 없는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("findArticleChanges: 마지막으로 확인한 이후의 블로그 글 변경만 조회한다.")
+    @Test
+    public void findArticleChanges() throws Exception {
+        // given
+        final String url = "/api/articles/changes";
+        long head = objectMapper.readTree(mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("next").asLong();
+
+        Long updatedId = createArticle("title1");
+        for (long version = 0; version < 2; version++) {
+            mockMvc.perform(put("/api/articles/{id}", updatedId)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .content(objectMapper.writeValueAsString(
+                                    new UpdateArticleRequest("title" + version, "content", version))))
+                    .andExpect(status().isOk());
+        }
+        Long deletedId = createArticle("title2");
+        mockMvc.perform(delete("/api/articles/{id}", deletedId))
+                .andExpect(status().isOk());
+
+        // when
+        MvcResult result = mockMvc.perform(get(url).param("since", String.valueOf(head)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(2))
+                .andExpect(jsonPath("$.changes[0].id").value(updatedId))
+                .andExpect(jsonPath("$.changes[0].type").value("UPDATED"))
+                .andExpect(jsonPath("$.changes[1].id").value(deletedId))
+                .andExpect(jsonPath("$.changes[1].type").value("DELETED"))
+                .andReturn();
+
+        // then
+        long next = objectMapper.readTree(result.getResponse().getContentAsString()).get("next").asLong();
+        assertThat(next).isEqualTo(head + 5);
+        mockMvc.perform(get(url).param("since", String.valueOf(next)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes").isEmpty())
+                .andExpect(jsonPath("$.next").value(next));
+    }
+
+    /**
+     * <h3>
+     * 대량 등록 변경 기록 조회 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 현재 변경 기록 위치를 받아 둡니다.</li>
+     *     <li> When : 대량 등록 API로 블로그 글 3개를 저장합니다.</li>
+     *     <li> Then : 받아 둔 위치 이후에 세 글의 CREATED 기록이 순서대로 조회되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("findArticleChanges: 대량 등록한 블로그 글은 배치마다 한 번에 변경 기록으로 남는다.")
+    @Test
+    public void findArticleChangesAfterImport() throws Exception {
+        // given
+        final String url = "/api/articles/changes";
+        long head = objectMapper.readTree(mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("next").asLong();
+        final String requestBody = String.join("\n",
+                objectMapper.writeValueAsString(new AddArticleRequest("title1", "content1")),
+                objectMapper.writeValueAsString(new AddArticleRequest("title2", "content2")),
+                objectMapper.writeValueAsString(new AddArticleRequest("title3", "content3")));
+
+        // when
+        mockMvc.perform(post("/api/articles/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(3));
+
+        // then
+        List<Long> ids = blogRepository.findAll().stream().map(Article::getId).sorted().toList();
+        mockMvc.perform(get(url).param("since", String.valueOf(head)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(3))
+                .andExpect(jsonPath("$.changes[0].id").value(ids.get(0)))
+                .andExpect(jsonPath("$.changes[2].id").value(ids.get(2)))
+                .andExpect(jsonPath("$.changes[2].type").value("CREATED"))
+                .andExpect(jsonPath("$.next").value(head + 3));
+    }
+
+    /**
+     * <h3>
+     * 늦게 커밋된 변경 기록 조회 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 변경 기록을 insert 한 뒤 커밋 직전에 멈춘 트랜잭션(앞 순번)을 만들고, 다른 글을 추가하여 뒤 순번을 먼저 커밋합니다.</li>
+     *     <li> When : 앞 순번이 커밋되기 전과 후에 변경 기록을 조회합니다.</li>
+     *     <li> Then : 커밋 전에는 빈 번호 앞에서 멈추고, 커밋 후에는 앞 순번의 기록도 반환되는지 확인합니다.
+     *     앞 순번의 기록 시각이 이벤트 발행 시각이 아닌 insert 시각인지도 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("findArticleChanges: 앞 순번이 뒤 순번보다 늦게 커밋되어도 건너뛰지 않는다.")
+    @Test
+    public void findArticleChangesCommittedOutOfOrder() throws Exception {
+        // given
+        final String url = "/api/articles/changes";
+        long head = objectMapper.readTree(mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("next").asLong();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch published = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Long> slow = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            Long id = blogService.save(new AddArticleRequest("slow", "content")).getId();
+            published.countDown();
+            awaitLatch(proceed);
+            // 변경 기록 insert(먼저 등록된 동기화) 뒤, 커밋 전에 멈춤
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    inserted.countDown();
+                    awaitLatch(commit);
+                }
+            });
+            return id;
+        }));
+        awaitLatch(published);
+        LocalDateTime publishedAfter = LocalDateTime.now();
+        proceed.countDown();
+        awaitLatch(inserted);
+
+        Long fastId = createArticle("fast");
+
+        // when & then
+        // 앞 순번(slow)이 아직 커밋되지 않았으므로 빈 번호 앞에서 멈춤
+        mockMvc.perform(get(url).param("since", String.valueOf(head)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes").isEmpty())
+                .andExpect(jsonPath("$.next").value(head));
+
+        commit.countDown();
+        Long slowId = slow.get(5, TimeUnit.SECONDS);
+        mockMvc.perform(get(url).param("since", String.valueOf(head)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(2))
+                .andExpect(jsonPath("$.changes[0].id").value(slowId))
+                .andExpect(jsonPath("$.changes[1].id").value(fastId))
+                .andExpect(jsonPath("$.next").value(head + 2));
+        ArticleChange slowChange = articleChangeRepository.findBySeqGreaterThanOrderBySeqAsc(head, Limit.of(1)).get(0);
+        assertThat(slowChange.getChangedAt()).isAfterOrEqualTo(publishedAfter);
+    }
+
+    /**
+     * 다른 스레드의 신호를 최대 5초 기다립니다.
+     */
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("신호를 기다리는 시간이 초과되었습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Long createArticle(String title) throws Exception {
+        String response = mockMvc.perform(post("/api/articles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddArticleRequest(title, "content"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
+    /**
+     * <h3>
+     * 블로그 글 변경 스트림 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 변경 스트림을 구독합니다.</li>
+     *     <li> When : 블로그 글 추가 API로 글을 저장합니다.</li>
+     *     <li> Then : 커밋 이후 created 이벤트가 전달되고, 알 수 없는 Last-Event-ID 로 다시 연결하면 resync 이벤트를 받는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("streamArticles: 블로그 글 변경을 server-sent events 로 받는다.")
+    @Test
+    public void streamArticles() throws Exception {
+        // given
+        final String url = "/api/articles/stream";
+        MvcResult stream = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        mockMvc.perform(post("/api/articles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddArticleRequest("title9e96", "content9e96"))))
+                .andExpect(status().isCreated());
+        MvcResult resumed = mockMvc.perform(get(url).header("Last-Event-ID", "unknown-1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        assertThat(awaitContent(stream, "event:created")).contains("\"title\":\"title9e96\"");
+        assertThat(awaitContent(resumed, "event:resync")).doesNotContain("title9e96");
+    }
+
+    /**
+     * 비동기 응답 본문에 기대하는 문자열이 나타날 때까지 최대 5초 기다립니다.
+     */
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        assertThat(content).contains(expected);
+        return content;
+    }
+
+    /**
+     * <h3>
+     * 블로그 글 검색 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 블로그 글 추가 API로 글을 저장합니다. (저장 이벤트로 검색 색인에 반영됩니다)</li>
+     *     <li> When : 본문에 포함된 단어로 검색 API를 호출합니다.</li>
+     *     <li> Then : 응답 코드가 200 OK이고, 저장한 글이 검색어가 강조된 조각과 함께 반환되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("searchArticles: 본문에 포함된 단어로 블로그 글을 검색한다.")
+    @Test
+    public void searchArticles() throws Exception {
+        // given
+        final String title = "검색 테스트";
+        final String content = "lucene inverted index makes searching fast";
+        mockMvc.perform(post("/api/articles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddArticleRequest(title, content))))
+                .andExpect(status().isCreated());
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/articles/search").param("q", "Lucene"));
+
+        // then
+        result
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value(title))
+                .andExpect(jsonPath("$[0].snippet").value(containsString("<mark>lucene</mark>")));
+    }
+
+    /**
+     * <h3>
+     * 해석할 수 없는 검색어 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : Lucene 의 최대 절 수(1024)보다 많은 서로 다른 단어로 검색어를 만듭니다.</li>
+     *     <li> When : 검색 API를 호출합니다.</li>
+     *     <li> Then : 검색어를 해석하는 단계에서 거부되어 응답 코드가 400 Bad Request 인지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("searchArticles: 해석할 수 없는 검색어는 400 을 반환한다.")
+    @Test
+    public void searchArticlesBadQuery() throws Exception {
+        // given
+        final String q = distinctWords(2000);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/articles/search").param("q", q));
+
+        // then
+        result.andExpect(status().isBadRequest());
+    }
+
+    /**
+     * <h3>
+     * 단어가 너무 많은 검색어 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 최상위 절 수(600)는 한도 안이지만, 단어마다 제목/본문 절이 붙어 중첩된 절 수(1800)가 한도를 넘는 검색어를 만듭니다.</li>
+     *     <li> When : 검색 API를 호출합니다.</li>
+     *     <li> Then : 해석은 통과하지만 검색 단계에서 거부되어 응답 코드가 500 이 아닌 400 Bad Request 인지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("searchArticles: 중첩된 절 수가 한도를 넘는 검색어는 400 을 반환한다.")
+    @Test
+    public void searchArticlesTooManyTerms() throws Exception {
+        // given
+        final String q = distinctWords(600);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/articles/search").param("q", q));
+
+        // then
+        result.andExpect(status().isBadRequest());
+    }
+
+    /**
+     * 서로 다른 세 글자 영단어 {@code count} 개를 공백으로 이은 검색어를 만듭니다.
+     */
+    private static String distinctWords(int count) {
+        StringBuilder q = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            q.append((char) ('a' + i / 676)).append((char) ('a' + i / 26 % 26)).append((char) ('a' + i % 26)).append(' ');
+        }
+        return q.toString();
+    }
+}
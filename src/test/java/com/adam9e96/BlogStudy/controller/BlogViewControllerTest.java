@@ -1,15 +1,33 @@
 package com.adam9e96.BlogStudy.controller;
 
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.dto.UpdateArticleRequest;
+import com.adam9e96.BlogStudy.repository.BlogRepository;
 import com.adam9e96.BlogStudy.service.BlogServiceImpl;
+import com.adam9e96.BlogStudy.service.ViewCountService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
 
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -24,14 +42,183 @@ class BlogViewControllerTest {
     @Autowired
     private BlogServiceImpl blogService;
 
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ResourceUrlEncodingFilter resourceUrlEncodingFilter;
+
+    @Autowired
+    private ResourceUrlProvider resourceUrlProvider;
+
     /**
      * MockMvc 객체를 생성합니다.
      * 이 메서드는 각 테스트 메서드가 실행되기 전에 실행됩니다.
+     * 템플릿의 정적 자원 링크가 해시가 붙은 URL 로 바뀌도록 {@link ResourceUrlEncodingFilter}를 함께 등록합니다.
      */
     @BeforeEach
     public void mockMvcSetup() {
-        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.context).build();
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.context)
+                .addFilters(resourceUrlEncodingFilter)
+                .build();
+    }
+
+    /**
+     * <h3>
+     * 렌더링 캐시 무효화 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 블로그 글을 저장하고 상세 / 목록 페이지를 한 번씩 렌더링하여 조각 캐시에 올립니다.</li>
+     *     <li> When : 블로그 글 수정 API로 제목을 바꿉니다.</li>
+     *     <li> Then : 두 페이지 모두 캐시된 이전 HTML 이 아닌 수정된 제목으로 렌더링되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("articlePage: 글을 수정하면 캐시된 페이지 조각 대신 수정된 글이 렌더링된다.")
+    @Test
+    public void articlePageAfterUpdate() throws Exception {
+        // given
+        Article saveArticle = blogRepository.save(
+                Article.builder()
+                        .title("title9e96")
+                        .content("content9e96")
+                        .build());
+        mockMvc.perform(get("/articles/{id}", saveArticle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("title9e96")));
+        mockMvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("title9e96")));
+
+        UpdateArticleRequest request = new UpdateArticleRequest("newTitle9e96", "newContent9e96", saveArticle.getVersion());
+
+        // when
+        mockMvc.perform(put("/api/articles/{id}", saveArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // then
+        mockMvc.perform(get("/articles/{id}", saveArticle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("newContent9e96")));
+        mockMvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("newTitle9e96")));
     }
 
+    /**
+     * <h3>
+     * 상세 페이지 조건부 GET 과 조회수 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 블로그 글을 저장하고 상세 페이지를 한 번 조회하여 ETag 를 받습니다.</li>
+     *     <li> When : 조회수를 DB에 반영한 뒤, 받은 ETag 로 상세 페이지를 다시 조회합니다.</li>
+     *     <li> Then : 조회수가 바뀌어도 ETag 는 그대로라 304 가 반환되고, 304 응답도 조회수에 포함되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("getArticle: 조회수가 반영되어도 상세 페이지는 304 로 재검증되고, 304 도 조회로 집계된다.")
+    @Test
+    public void articlePageNotModified() throws Exception {
+        // given
+        Article article = blogRepository.save(Article.builder().title("title").content("content").build());
+        String eTag = mockMvc.perform(get("/articles/{id}", article.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
 
-}
\ No newline at end of file
+        // when
+        viewCountService.flush();
+        mockMvc.perform(get("/articles/{id}", article.getId()).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag));
+
+        // then
+        viewCountService.flush();
+        assertThat(blogRepository.findStampById(article.getId()).getViews()).isEqualTo(2);
+    }
+
+    /**
+     * <h3>
+     * 조회수 순 목록 페이지 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 블로그 글 두 개를 저장하고, 나중에 저장한 글보다 먼저 저장한 글을 더 많이 조회한 뒤 반영합니다.</li>
+     *     <li> When : sort=views 로 목록 페이지를 조회합니다.</li>
+     *     <li> Then : 조회수가 많은 글이 최신 글보다 먼저 렌더링되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("getArticles: sort=views 면 조회수가 많은 순으로 목록을 렌더링한다.")
+    @Test
+    public void articleListSortedByViews() throws Exception {
+        // given
+        Article popular = blogRepository.save(Article.builder().title("popular9e96").content("content").build());
+        blogRepository.save(Article.builder().title("latest9e96").content("content").build());
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/articles/{id}", popular.getId())).andExpect(status().isOk());
+        }
+        viewCountService.flush();
+
+        // when
+        String html = mockMvc.perform(get("/articles").param("sort", "views").param("limit", "100"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // then
+        assertThat(html).contains("popular9e96", "latest9e96");
+        assertThat(html.indexOf("popular9e96")).isLessThan(html.indexOf("latest9e96"));
+    }
+
+    /**
+     * <h3>
+     * 자바스크립트 해시 URL 렌더링 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 블로그 글을 저장합니다.</li>
+     *     <li> When : 상세 페이지를 조회합니다.</li>
+     *     <li> Then : 스크립트 태그의 src 가 내용 해시가 붙은 URL 로 렌더링되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("getArticle: 상세 페이지의 스크립트는 내용 해시가 붙은 URL 로 렌더링된다.")
+    @Test
+    public void articlePageFingerprintedScript() throws Exception {
+        // given
+        Article article = blogRepository.save(Article.builder().title("title").content("content").build());
+        String scriptUrl = resourceUrlProvider.getForLookupPath("/js/article.js");
+
+        // when
+        String html = mockMvc.perform(get("/articles/{id}", article.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // then
+        assertThat(scriptUrl).matches("/js/article-[0-9a-f]{32}\\.js");
+        assertThat(html).contains("src=\"" + scriptUrl + "\"");
+    }
+
+    /**
+     * <h3>
+     * 자바스크립트 캐시 헤더 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 내용 해시가 붙은 article.js URL 을 구합니다.</li>
+     *     <li> When : 해당 URL 로 스크립트를 요청합니다.</li>
+     *     <li> Then : 1년 동안 변하지 않는(immutable) 자원으로 캐시하도록 Cache-Control 이 지정되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("/js/**: 해시가 붙은 스크립트는 1년 동안 immutable 로 캐시된다.")
+    @Test
+    public void fingerprintedScriptCacheControl() throws Exception {
+        // given
+        String scriptUrl = resourceUrlProvider.getForLookupPath("/js/article.js");
+
+        // when & then
+        mockMvc.perform(get(scriptUrl))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"));
+    }
+}
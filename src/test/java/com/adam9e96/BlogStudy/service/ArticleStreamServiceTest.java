@@ -0,0 +1,123 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.domain.ArticleChangedEvent;
+import com.adam9e96.BlogStudy.dto.ArticleStreamMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleStreamServiceTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch released = new CountDownLatch(1);
+    private ArticleStreamService articleStreamService;
+
+    @BeforeEach
+    public void setUp() {
+        articleStreamService = new ArticleStreamService(
+                16, Duration.ofMillis(200), Duration.ofMinutes(1), 100, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        released.countDown();
+        articleStreamService.close();
+    }
+
+    /**
+     * <h3>
+     * 읽지 않는 구독자 테스트
+     * </h3>
+     * <ul>
+     *     <li> Given : 전송이 끝나지 않는(소켓 버퍼가 가득 찬) 구독자 8명과 정상 구독자 1명을 등록합니다.</li>
+     *     <li> When : 게시물 변경 이벤트를 발행하고, 막힌 전송을 정리합니다.</li>
+     *     <li> Then : 정상 구독자는 바로 이벤트를 받고, 막힌 구독자는 연결이 끊기는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("subscribe: 읽지 않는 구독자가 있어도 다른 구독자는 이벤트를 받고, 막힌 구독자는 끊긴다.")
+    @Test
+    public void stalledSubscribers() throws Exception {
+        // given
+        List<StalledEmitter> stalledEmitters = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            StalledEmitter emitter = new StalledEmitter();
+            articleStreamService.subscribe(emitter, null);
+            stalledEmitters.add(emitter);
+        }
+        RecordingEmitter reader = new RecordingEmitter();
+        articleStreamService.subscribe(reader, null);
+
+        // when
+        articleStreamService.onArticleChanged(ArticleChangedEvent.created(1L, "title1", "content1"));
+
+        // then
+        reader.await("title1");
+        for (StalledEmitter emitter : stalledEmitters) {
+            assertThat(emitter.started.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        // 기다리지 않고, blog.stream.send-timeout(200ms) 이 지난 시각을 넘겨 막힌 전송을 정리합니다.
+        articleStreamService.disconnectStalled(System.nanoTime() + Duration.ofSeconds(1).toNanos());
+        assertThat(meterRegistry.get("blog.stream.stalled").counter().count()).isEqualTo(8);
+        assertThat(meterRegistry.get("blog.stream.subscribers").gauge().value()).isEqualTo(1);
+
+        articleStreamService.onArticleChanged(ArticleChangedEvent.created(2L, "title2", "content2"));
+        reader.await("title2");
+    }
+
+    /**
+     * 클라이언트가 읽지 않아 소켓 쓰기가 끝나지 않는 상황을 흉내 내는 emitter 입니다.
+     */
+    private class StalledEmitter extends SseEmitter {
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            started.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+
+    /**
+     * 받은 이벤트의 게시물 제목을 기록하는 emitter 입니다.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> titles = new ArrayList<>();
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) {
+            for (DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof ArticleStreamMessage message) {
+                    titles.add(message.getTitle());
+                }
+            }
+            notifyAll();
+        }
+
+        private synchronized void await(String title) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (!titles.contains(title) && System.currentTimeMillis() < deadline) {
+                wait(100);
+            }
+            assertThat(titles).contains(title);
+        }
+    }
+}